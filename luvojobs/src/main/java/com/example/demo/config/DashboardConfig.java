@@ -0,0 +1,28 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class DashboardConfig {
+
+    /**
+     * Small bounded pool for background dashboard refreshes; when the queue is full, callers keep the stale stats
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor dashboardRefreshExecutor(@Value("${dashboards.cache.refresh-threads:2}") int threads,
+                                                       @Value("${dashboards.cache.refresh-queue:100}") int queueSize) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-refresh-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
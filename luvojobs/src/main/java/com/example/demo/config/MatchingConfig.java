@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MatchingConfig {
+
+    /**
+     * Dedicated pool for parallel match scoring, so it never competes with the common pool
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool matchScoringPool(@Value("${jobs.matching.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("match-scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Single background thread that recomputes stored match scores after job and profile writes commit
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor matchScoreRefreshExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "match-score-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -146,6 +146,38 @@ public class CandidateController {
         }
     }
 
+    @GetMapping("/jobs/feed")
+    @Operation(
+        summary = "Get active job feed",
+        description = "Retrieves active jobs newest first using cursor pagination for infinite scroll. Pass nextCursor from the previous response to load the next slice. No total count is returned."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Jobs retrieved successfully",
+            content = @Content(schema = @Schema(implementation = JobFeedResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid cursor"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<JobFeedResponse>> getJobFeed(
+            @Parameter(description = "Cursor returned by the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per slice (1-100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            JobFeedResponse feed = jobService.getActiveJobFeed(cursor, size);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Jobs retrieved successfully", feed));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
     @GetMapping("/jobs/search")
     @Operation(
         summary = "Search jobs",
@@ -180,10 +212,105 @@ public class CandidateController {
         }
     }
 
+    @GetMapping("/jobs/search/faceted")
+    @Operation(
+        summary = "Search jobs with facet counts",
+        description = "Searches active jobs by query string. Searches in job title, company name, description, and required skills. Returns facet counts per type, experience level, career track and location over all matches alongside the page."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Search completed successfully",
+            content = @Content(schema = @Schema(implementation = FacetedJobsResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Bad request - invalid query parameter"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<FacetedJobsResponse>> searchJobsWithFacets(
+            @Parameter(description = "Search query string", example = "software engineer", required = true) @RequestParam String query,
+            @Parameter(description = "Page number (0-indexed)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            FacetedJobsResponse jobs = jobService.searchJobsWithFacets(query, pageable);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Search completed successfully", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/jobs/suggest")
+    @Operation(
+        summary = "Suggest job search terms",
+        description = "Autocompletes a prefix against active job titles, companies and required skills, most popular first."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Suggestions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = JobSuggestionResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<List<JobSuggestionResponse>>> suggestJobs(
+            @Parameter(description = "Prefix typed so far", example = "jav", required = true) @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (up to 10)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<JobSuggestionResponse> suggestions = jobService.suggestJobs(prefix, limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Suggestions retrieved successfully", suggestions));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/jobs/filter")
+    @Operation(
+        summary = "Filter jobs",
+        description = "Retrieves active jobs filtered by type, location, experience level and career track. Use \"all\" or omit a parameter to skip that filter; location \"remote\" matches any remote position. Returns facet counts alongside the page."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Jobs retrieved successfully",
+            content = @Content(schema = @Schema(implementation = FacetedJobsResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<FacetedJobsResponse>> filterJobs(
+            @Parameter(description = "Job type", example = "full-time") @RequestParam(required = false) String type,
+            @Parameter(description = "Location, or \"remote\"", example = "remote") @RequestParam(required = false) String location,
+            @Parameter(description = "Experience level", example = "junior") @RequestParam(required = false) String experienceLevel,
+            @Parameter(description = "Career track", example = "software-development") @RequestParam(required = false) String careerTrack,
+            @Parameter(description = "Page number (0-indexed)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            FacetedJobsResponse jobs = jobService.getJobsWithFiltersAndFacets(type, location, experienceLevel, careerTrack, pageable);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Jobs retrieved successfully", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
     @GetMapping("/jobs/matched")
     @Operation(
         summary = "Get matched jobs",
-        description = "Retrieves jobs matched to candidate's profile based on skills, career track, and experience level. Jobs are sorted by match score."
+        description = "Retrieves jobs matched to candidate's profile based on skills, career track, and experience level. Only jobs with a match score above zero are returned, sorted by match score. Use page and size to fetch further matches."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -196,10 +323,14 @@ public class CandidateController {
             description = "Unauthorized - user not authenticated"
         )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getMatchedJobs() {
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getMatchedJobs(
+            @Parameter(description = "Page number (0-indexed)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include match reasons and matched skills", example = "true") @RequestParam(defaultValue = "true") boolean explain) {
         try {
             Long userId = getCurrentUserId();
-            List<JobResponse> jobs = jobService.getMatchedJobs(userId);
+            Pageable pageable = PageRequest.of(page, size);
+            List<JobResponse> jobs = jobService.getMatchedJobs(userId, pageable, explain).getContent();
             return ResponseEntity.ok(new ApiResponse<>(true, "Matched jobs retrieved successfully", jobs));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -207,6 +338,93 @@ public class CandidateController {
         }
     }
 
+    @GetMapping("/jobs/recommended")
+    @Operation(
+        summary = "Get recommended jobs",
+        description = "Retrieves active jobs that candidates who applied to the same jobs as the current user also applied to. Strongest recommendations come first."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Recommended jobs retrieved successfully",
+            content = @Content(schema = @Schema(implementation = JobResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getRecommendedJobs(
+            @Parameter(description = "Maximum number of jobs (up to 20)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        try {
+            Long userId = getCurrentUserId();
+            List<JobResponse> jobs = jobService.getRecommendedJobs(userId, limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Recommended jobs retrieved successfully", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/jobs/trending")
+    @Operation(
+        summary = "Get trending jobs",
+        description = "Retrieves the active jobs with the most recent views and applications. Older activity counts for less over time. Hottest jobs come first."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Trending jobs retrieved successfully",
+            content = @Content(schema = @Schema(implementation = JobResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getTrendingJobs(
+            @Parameter(description = "Maximum number of jobs (up to 50)", example = "20") @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<JobResponse> jobs = jobService.getTrendingJobs(limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Trending jobs retrieved successfully", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}/similar")
+    @Operation(
+        summary = "Get similar jobs",
+        description = "Retrieves active jobs similar to the given job, based on title, required skills and description. Most similar jobs come first."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Similar jobs retrieved successfully",
+            content = @Content(schema = @Schema(implementation = JobResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Job not found"
+        )
+    })
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getSimilarJobs(
+            @Parameter(description = "Job ID", example = "1", required = true) @PathVariable Long jobId,
+            @Parameter(description = "Maximum number of jobs (up to 20)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<JobResponse> jobs = jobService.getSimilarJobs(jobId, limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Similar jobs retrieved successfully", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
     @GetMapping("/jobs/{jobId}")
     @Operation(
         summary = "Get job by ID",
@@ -27,6 +27,7 @@ public class CareerCounselorController {
     private final CareerPlanService careerPlanService;
     private final ResourceService resourceService;
     private final CounselorDashboardService dashboardService;
+    private final DashboardStatsCache statsCache;
     private final com.example.demo.repository.UserRepository userRepository;
 
     public CareerCounselorController(StudentService studentService,
@@ -34,12 +35,14 @@ public class CareerCounselorController {
                                     CareerPlanService careerPlanService,
                                     ResourceService resourceService,
                                     CounselorDashboardService dashboardService,
+                                    DashboardStatsCache statsCache,
                                     com.example.demo.repository.UserRepository userRepository) {
         this.studentService = studentService;
         this.sessionService = sessionService;
         this.careerPlanService = careerPlanService;
         this.resourceService = resourceService;
         this.dashboardService = dashboardService;
+        this.statsCache = statsCache;
         this.userRepository = userRepository;
     }
 
@@ -71,7 +74,8 @@ public class CareerCounselorController {
     public ResponseEntity<ApiResponse<CounselorDashboardStatsResponse>> getDashboardStats() {
         try {
             Long counselorId = getCurrentUserId();
-            CounselorDashboardStatsResponse stats = dashboardService.getDashboardStats(counselorId);
+            CounselorDashboardStatsResponse stats = statsCache.getCounselorStats(counselorId,
+                    () -> dashboardService.getDashboardStats(counselorId));
             return ResponseEntity.ok(new ApiResponse<>(true, "Statistics retrieved successfully", stats));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
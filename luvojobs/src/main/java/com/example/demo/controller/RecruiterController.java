@@ -12,12 +12,14 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -30,6 +32,8 @@ public class RecruiterController {
     private final InterviewService interviewService;
     private final CandidateService candidateService;
     private final RecruiterDashboardService dashboardService;
+    private final DashboardStatsCache statsCache;
+    private final ApplicationRollupService rollupService;
     private final com.example.demo.repository.UserRepository userRepository;
 
     public RecruiterController(RecruiterJobService jobService,
@@ -37,12 +41,16 @@ public class RecruiterController {
                                InterviewService interviewService,
                                CandidateService candidateService,
                                RecruiterDashboardService dashboardService,
+                               DashboardStatsCache statsCache,
+                               ApplicationRollupService rollupService,
                                com.example.demo.repository.UserRepository userRepository) {
         this.jobService = jobService;
         this.applicationService = applicationService;
         this.interviewService = interviewService;
         this.candidateService = candidateService;
         this.dashboardService = dashboardService;
+        this.statsCache = statsCache;
+        this.rollupService = rollupService;
         this.userRepository = userRepository;
     }
 
@@ -74,7 +82,8 @@ public class RecruiterController {
     public ResponseEntity<ApiResponse<RecruiterDashboardStatsResponse>> getDashboardStats() {
         try {
             Long recruiterId = getCurrentUserId();
-            RecruiterDashboardStatsResponse stats = dashboardService.getDashboardStats(recruiterId);
+            RecruiterDashboardStatsResponse stats = statsCache.getRecruiterStats(recruiterId,
+                    () -> dashboardService.getDashboardStats(recruiterId));
             return ResponseEntity.ok(new ApiResponse<>(true, "Statistics retrieved successfully", stats));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -82,6 +91,44 @@ public class RecruiterController {
         }
     }
 
+    // Analytics Endpoints
+    @GetMapping("/analytics/timeseries")
+    @Operation(
+        summary = "Get application analytics time series",
+        description = "Retrieves applications received and status changes per job in hourly or daily buckets, from pre-aggregated rollups. Optionally limited to one job. Activity of the last few minutes may not be rolled up yet."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Time series retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ApplicationTimeseriesResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Invalid granularity or time range"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        )
+    })
+    public ResponseEntity<ApiResponse<ApplicationTimeseriesResponse>> getApplicationTimeseries(
+            @Parameter(description = "Bucket size: hour or day", example = "day") @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "Only this job (optional)", example = "1") @RequestParam(required = false) Long jobId,
+            @Parameter(description = "Start of the range, ISO date-time (defaults to 48 hours or 30 days before to)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, ISO date-time (defaults to now)", example = "2024-01-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            Long recruiterId = getCurrentUserId();
+            ApplicationTimeseriesResponse timeseries = rollupService.getTimeseries(recruiterId, granularity, jobId, from, to);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Time series retrieved successfully", timeseries));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
     // Job Management Endpoints
     @PostMapping("/jobs")
     @Operation(
@@ -287,6 +334,45 @@ public class RecruiterController {
         }
     }
 
+    @GetMapping("/jobs/{jobId}/matches")
+    @Operation(
+        summary = "Get best matching candidates for a job",
+        description = "Retrieves a paginated list of candidates ranked by how well their profile matches the job (career track, skills, experience level). Only candidates sharing at least one required skill are included. Only accessible by the recruiter who created the job."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Matching candidates retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CandidateMatchResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - user not authenticated"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "Forbidden - user doesn't have permission to view this job"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Job not found"
+        )
+    })
+    public ResponseEntity<ApiResponse<Page<CandidateMatchResponse>>> getJobMatches(
+            @Parameter(description = "Job ID", example = "1", required = true) @PathVariable Long jobId,
+            @Parameter(description = "Page number (0-indexed)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            Long recruiterId = getCurrentUserId();
+            Pageable pageable = PageRequest.of(page, size);
+            Page<CandidateMatchResponse> matches = jobService.getJobMatches(recruiterId, jobId, pageable);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Matching candidates retrieved successfully", matches));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
     // Application Management Endpoints
     @GetMapping("/applications")
     @Operation(
@@ -0,0 +1,128 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Recruiter application analytics time series response DTO")
+public class ApplicationTimeseriesResponse {
+
+    @Schema(description = "Bucket size", example = "day")
+    private String granularity;
+
+    @Schema(description = "Start of the first bucket (inclusive)")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the range (exclusive)")
+    private LocalDateTime to;
+
+    @Schema(description = "Applications are counted up to this time; later activity is not rolled up yet")
+    private LocalDateTime rolledUpTo;
+
+    @Schema(description = "Non-empty buckets, oldest first; missing buckets have no events")
+    private List<TimeseriesPoint> points;
+
+    public ApplicationTimeseriesResponse() {}
+
+    public ApplicationTimeseriesResponse(String granularity, LocalDateTime from, LocalDateTime to,
+                                         LocalDateTime rolledUpTo, List<TimeseriesPoint> points) {
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.rolledUpTo = rolledUpTo;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public LocalDateTime getRolledUpTo() {
+        return rolledUpTo;
+    }
+
+    public void setRolledUpTo(LocalDateTime rolledUpTo) {
+        this.rolledUpTo = rolledUpTo;
+    }
+
+    public List<TimeseriesPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<TimeseriesPoint> points) {
+        this.points = points;
+    }
+
+    // Nested response DTOs
+    @Schema(description = "Event count of one job in one bucket")
+    public static class TimeseriesPoint {
+        private LocalDateTime bucketStart;
+        private Long jobId;
+        private String event; // applied, or the status an application moved to
+        private Long count;
+
+        public TimeseriesPoint() {}
+
+        public TimeseriesPoint(LocalDateTime bucketStart, Long jobId, String event, Long count) {
+            this.bucketStart = bucketStart;
+            this.jobId = jobId;
+            this.event = event;
+            this.count = count;
+        }
+
+        // Getters and Setters
+        public LocalDateTime getBucketStart() {
+            return bucketStart;
+        }
+
+        public void setBucketStart(LocalDateTime bucketStart) {
+            this.bucketStart = bucketStart;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        public void setJobId(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        public String getEvent() {
+            return event;
+        }
+
+        public void setEvent(String event) {
+            this.event = event;
+        }
+
+        public Long getCount() {
+            return count;
+        }
+
+        public void setCount(Long count) {
+            this.count = count;
+        }
+    }
+}
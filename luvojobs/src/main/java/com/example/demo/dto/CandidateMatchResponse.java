@@ -0,0 +1,87 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Candidate ranked by match score for a recruiter's job")
+public class CandidateMatchResponse {
+
+    @Schema(description = "Candidate profile ID")
+    private Long profileId;
+
+    @Schema(description = "Candidate user ID")
+    private Long userId;
+
+    @Schema(description = "Candidate name")
+    private String name;
+
+    @Schema(description = "Preferred career track")
+    private String careerTrack;
+
+    @Schema(description = "Experience level")
+    private String experienceLevel;
+
+    @Schema(description = "Match score (0-100)", example = "80")
+    private Integer matchScore;
+
+    @Schema(description = "Skills the candidate shares with the job")
+    private List<String> matchedSkills;
+
+    // Getters and Setters
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(Long profileId) {
+        this.profileId = profileId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCareerTrack() {
+        return careerTrack;
+    }
+
+    public void setCareerTrack(String careerTrack) {
+        this.careerTrack = careerTrack;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public Integer getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(Integer matchScore) {
+        this.matchScore = matchScore;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Schema(description = "Job search/filter result with facet counts")
+public class FacetedJobsResponse {
+
+    @Schema(description = "Page of matching jobs")
+    private Page<JobResponse> jobs;
+
+    @Schema(description = "Job counts per facet value, keyed by facet (type, experienceLevel, careerTrack, location)")
+    private Map<String, Map<String, Integer>> facets;
+
+    public FacetedJobsResponse() {}
+
+    public FacetedJobsResponse(Page<JobResponse> jobs, Map<String, Map<String, Integer>> facets) {
+        this.jobs = jobs;
+        this.facets = facets;
+    }
+
+    // Getters and Setters
+    public Page<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Page<JobResponse> jobs) {
+        this.jobs = jobs;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Cursor-paginated job feed response DTO")
+public class JobFeedResponse {
+
+    @Schema(description = "Jobs in this slice, newest first")
+    private List<JobResponse> jobs;
+
+    @Schema(description = "Opaque cursor for the next slice, null when there are no more jobs")
+    private String nextCursor;
+
+    @Schema(description = "Whether more jobs are available after this slice")
+    private boolean hasMore;
+
+    public JobFeedResponse() {}
+
+    public JobFeedResponse(List<JobResponse> jobs, String nextCursor, boolean hasMore) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobResponse> jobs) {
+        this.jobs = jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
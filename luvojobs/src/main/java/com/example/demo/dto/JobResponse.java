@@ -65,6 +65,12 @@ public class JobResponse {
     @Schema(description = "Matched skills (for candidate matching)")
     private List<String> matchedSkills;
 
+    @Schema(description = "Warning when the job looks like a near-duplicate of the recruiter's other active jobs")
+    private String duplicateWarning;
+
+    @Schema(description = "IDs of the recruiter's active jobs this job nearly duplicates")
+    private List<Long> duplicateOfJobIds;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -217,4 +223,20 @@ public class JobResponse {
     public void setMatchedSkills(List<String> matchedSkills) {
         this.matchedSkills = matchedSkills;
     }
+
+    public String getDuplicateWarning() {
+        return duplicateWarning;
+    }
+
+    public void setDuplicateWarning(String duplicateWarning) {
+        this.duplicateWarning = duplicateWarning;
+    }
+
+    public List<Long> getDuplicateOfJobIds() {
+        return duplicateOfJobIds;
+    }
+
+    public void setDuplicateOfJobIds(List<Long> duplicateOfJobIds) {
+        this.duplicateOfJobIds = duplicateOfJobIds;
+    }
 }
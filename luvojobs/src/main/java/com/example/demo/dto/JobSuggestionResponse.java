@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Job search autocomplete suggestion DTO")
+public class JobSuggestionResponse {
+
+    @Schema(description = "Suggested text", example = "Java Developer")
+    private String text;
+
+    @Schema(description = "Suggestion type (title, company, skill)", example = "title")
+    private String type;
+
+    @Schema(description = "Number of active jobs carrying this suggestion")
+    private Long jobCount;
+
+    public JobSuggestionResponse() {}
+
+    public JobSuggestionResponse(String text, String type, Long jobCount) {
+        this.text = text;
+        this.type = type;
+        this.jobCount = jobCount;
+    }
+
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getJobCount() {
+        return jobCount;
+    }
+
+    public void setJobCount(Long jobCount) {
+        this.jobCount = jobCount;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of application events of one job in one hour or day bucket, for the recruiter analytics charts.
+ * Events are "applied" for new applications and the entered status for status changes.
+ * Filled incrementally from job_applications and application_status_changes by the rollup job,
+ * never written by request handlers.
+ */
+@Entity
+@Table(name = "application_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_application_rollups_bucket", columnNames = {"granularity", "bucket_start", "job_id", "event"})
+}, indexes = {
+    @Index(name = "idx_application_rollups_recruiter_bucket", columnList = "recruiter_id, granularity, bucket_start")
+})
+public class ApplicationRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String granularity; // hour, day
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(nullable = false)
+    private String event; // applied, pending, reviewing, shortlisted, rejected, hired
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+
+    // Constructors
+    public ApplicationRollup() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition of a job application, appended whenever a recruiter moves it to another status.
+ * Rows are never updated, so the analytics rollup counts every transition, not just the latest one.
+ */
+@Entity
+@Table(name = "application_status_changes", indexes = {
+    // Watermark windows of the analytics rollup
+    @Index(name = "idx_application_status_changes_changed_at", columnList = "changed_at")
+})
+public class ApplicationStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private String status; // the status entered
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public ApplicationStatusChange() {}
+
+    public ApplicationStatusChange(Long applicationId, Long jobId, String status, LocalDateTime changedAt) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.status = status;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -53,6 +53,10 @@ public class CandidateProfile {
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Education> educations = new ArrayList<>();
 
+    // Set once the profile's rows in job_match_scores have been computed
+    @Column(name = "match_scores_computed_at")
+    private LocalDateTime matchScoresComputedAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -173,6 +177,14 @@ public class CandidateProfile {
         this.educations = educations;
     }
 
+    public LocalDateTime getMatchScoresComputedAt() {
+        return matchScoresComputedAt;
+    }
+
+    public void setMatchScoresComputedAt(LocalDateTime matchScoresComputedAt) {
+        this.matchScoresComputedAt = matchScoresComputedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "career_plans")
+@Table(name = "career_plans", indexes = {
+    @Index(name = "idx_career_plans_counselor_status", columnList = "counselor_id, status")
+})
 public class CareerPlan {
 
     @Id
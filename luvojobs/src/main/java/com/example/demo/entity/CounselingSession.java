@@ -7,7 +7,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "counseling_sessions")
+@Table(name = "counseling_sessions", indexes = {
+    @Index(name = "idx_counseling_sessions_counselor_status", columnList = "counselor_id, status")
+})
 public class CounselingSession {
 
     @Id
@@ -0,0 +1,120 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Dashboard counters of one career counselor, adjusted in the same transaction as the writes they count.
+ * Rows are seeded from the source tables on first read and recomputed by the nightly reconciliation.
+ */
+@Entity
+@Table(name = "counselor_stats")
+public class CounselorStats {
+
+    @Id
+    @Column(name = "counselor_id")
+    private Long counselorId;
+
+    @Column(name = "total_students", nullable = false)
+    private Long totalStudents = 0L;
+
+    @Column(name = "active_students", nullable = false)
+    private Long activeStudents = 0L;
+
+    @Column(name = "total_sessions", nullable = false)
+    private Long totalSessions = 0L;
+
+    @Column(name = "scheduled_sessions", nullable = false)
+    private Long scheduledSessions = 0L;
+
+    @Column(name = "total_career_plans", nullable = false)
+    private Long totalCareerPlans = 0L;
+
+    @Column(name = "active_career_plans", nullable = false)
+    private Long activeCareerPlans = 0L;
+
+    @Column(name = "total_resources", nullable = false)
+    private Long totalResources = 0L;
+
+    @Column(name = "featured_resources", nullable = false)
+    private Long featuredResources = 0L;
+
+    // Constructors
+    public CounselorStats() {}
+
+    public CounselorStats(Long counselorId) {
+        this.counselorId = counselorId;
+    }
+
+    // Getters and Setters
+    public Long getCounselorId() {
+        return counselorId;
+    }
+
+    public void setCounselorId(Long counselorId) {
+        this.counselorId = counselorId;
+    }
+
+    public Long getTotalStudents() {
+        return totalStudents;
+    }
+
+    public void setTotalStudents(Long totalStudents) {
+        this.totalStudents = totalStudents;
+    }
+
+    public Long getActiveStudents() {
+        return activeStudents;
+    }
+
+    public void setActiveStudents(Long activeStudents) {
+        this.activeStudents = activeStudents;
+    }
+
+    public Long getTotalSessions() {
+        return totalSessions;
+    }
+
+    public void setTotalSessions(Long totalSessions) {
+        this.totalSessions = totalSessions;
+    }
+
+    public Long getScheduledSessions() {
+        return scheduledSessions;
+    }
+
+    public void setScheduledSessions(Long scheduledSessions) {
+        this.scheduledSessions = scheduledSessions;
+    }
+
+    public Long getTotalCareerPlans() {
+        return totalCareerPlans;
+    }
+
+    public void setTotalCareerPlans(Long totalCareerPlans) {
+        this.totalCareerPlans = totalCareerPlans;
+    }
+
+    public Long getActiveCareerPlans() {
+        return activeCareerPlans;
+    }
+
+    public void setActiveCareerPlans(Long activeCareerPlans) {
+        this.activeCareerPlans = activeCareerPlans;
+    }
+
+    public Long getTotalResources() {
+        return totalResources;
+    }
+
+    public void setTotalResources(Long totalResources) {
+        this.totalResources = totalResources;
+    }
+
+    public Long getFeaturedResources() {
+        return featuredResources;
+    }
+
+    public void setFeaturedResources(Long featuredResources) {
+        this.featuredResources = featuredResources;
+    }
+}
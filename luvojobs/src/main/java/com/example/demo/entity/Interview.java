@@ -7,7 +7,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interviews")
+@Table(name = "interviews", indexes = {
+    @Index(name = "idx_interviews_recruiter_status_date", columnList = "recruiter_id, status, scheduled_date")
+})
 public class Interview {
 
     @Id
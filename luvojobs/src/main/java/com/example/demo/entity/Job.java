@@ -7,10 +7,19 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_status_type_experience", columnList = "status, type, experience_level"),
+    @Index(name = "idx_jobs_status_experience", columnList = "status, experience_level"),
+    @Index(name = "idx_jobs_status_career_track", columnList = "status, career_track"),
+    @Index(name = "idx_jobs_status_location", columnList = "status, location"),
+    @Index(name = "idx_jobs_status_posted_date_id", columnList = "status, posted_date DESC, id DESC"),
+    @Index(name = "idx_jobs_recruiter_status", columnList = "recruiter_id, status")
+})
 public class Job {
 
     @Id
@@ -33,7 +42,7 @@ public class Job {
     @Column(nullable = false)
     private String type; // full-time, part-time, contract, internship, freelance
 
-    @Column(nullable = false)
+    @Column(name = "experience_level", nullable = false)
     private String experienceLevel; // entry-level, junior, mid-level, senior, lead
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -49,6 +58,12 @@ public class Job {
     @Column(name = "skill")
     private List<String> requiredSkills = new ArrayList<>();
 
+    // Normalized required skills used for matching, see SkillNormalizer
+    @ElementCollection
+    @CollectionTable(name = "job_canonical_skills", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "skill")
+    private Set<String> canonicalSkills = new HashSet<>();
+
     @Column(nullable = false)
     private String salary;
 
@@ -172,6 +187,14 @@ public class Job {
         this.requiredSkills = requiredSkills;
     }
 
+    public Set<String> getCanonicalSkills() {
+        return canonicalSkills;
+    }
+
+    public void setCanonicalSkills(Set<String> canonicalSkills) {
+        this.canonicalSkills = canonicalSkills;
+    }
+
     public String getSalary() {
         return salary;
     }
@@ -9,6 +9,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "job_applications", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"candidate_id", "job_id"})
+}, indexes = {
+    // Covers the per-job status and distinct candidate counts of the recruiter dashboard
+    @Index(name = "idx_job_applications_job_status_candidate", columnList = "job_id, status, candidate_id"),
+    // Watermark windows of the analytics rollup
+    @Index(name = "idx_job_applications_created_at", columnList = "created_at")
 })
 public class JobApplication {
 
@@ -33,6 +38,10 @@ public class JobApplication {
     @Column(name = "coins_deducted")
     private Integer coinsDeducted;
 
+    // Set when a recruiter moves the application to another status; null while it is still as submitted
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -99,6 +108,14 @@ public class JobApplication {
         this.coinsDeducted = coinsDeducted;
     }
 
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,72 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Materialized match score of one candidate profile against one active job.
+ * Only positive scores are stored.
+ */
+@Entity
+@Table(name = "job_match_scores", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"profile_id", "job_id"})
+}, indexes = {
+    @Index(name = "idx_job_match_scores_profile_score", columnList = "profile_id, score DESC, job_id DESC"),
+    @Index(name = "idx_job_match_scores_job", columnList = "job_id")
+})
+public class JobMatchScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Integer score;
+
+    // Constructors
+    public JobMatchScore() {}
+
+    public JobMatchScore(Long profileId, Long jobId, Integer score) {
+        this.profileId = profileId;
+        this.jobId = jobId;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(Long profileId) {
+        this.profileId = profileId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of one trending job's decayed activity score, as of scoredAt.
+ * Only the in-memory top-K is stored, so the table stays small.
+ */
+@Entity
+@Table(name = "job_trending_scores")
+public class JobTrendingScore {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    // Constructors
+    public JobTrendingScore() {}
+
+    public JobTrendingScore(Long jobId, Double score, LocalDateTime scoredAt) {
+        this.jobId = jobId;
+        this.score = score;
+        this.scoredAt = scoredAt;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+
+    public void setScoredAt(LocalDateTime scoredAt) {
+        this.scoredAt = scoredAt;
+    }
+}
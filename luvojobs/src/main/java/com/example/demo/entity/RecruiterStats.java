@@ -0,0 +1,120 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Dashboard counters of one recruiter, adjusted in the same transaction as the writes they count.
+ * Rows are seeded from the source tables on first read and recomputed by the nightly reconciliation.
+ */
+@Entity
+@Table(name = "recruiter_stats")
+public class RecruiterStats {
+
+    @Id
+    @Column(name = "recruiter_id")
+    private Long recruiterId;
+
+    @Column(name = "total_jobs", nullable = false)
+    private Long totalJobs = 0L;
+
+    @Column(name = "active_jobs", nullable = false)
+    private Long activeJobs = 0L;
+
+    @Column(name = "total_applications", nullable = false)
+    private Long totalApplications = 0L;
+
+    @Column(name = "pending_applications", nullable = false)
+    private Long pendingApplications = 0L;
+
+    @Column(name = "shortlisted", nullable = false)
+    private Long shortlisted = 0L;
+
+    @Column(name = "hired", nullable = false)
+    private Long hired = 0L;
+
+    @Column(name = "rejected", nullable = false)
+    private Long rejected = 0L;
+
+    @Column(name = "total_candidates", nullable = false)
+    private Long totalCandidates = 0L;
+
+    // Constructors
+    public RecruiterStats() {}
+
+    public RecruiterStats(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    // Getters and Setters
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public Long getTotalJobs() {
+        return totalJobs;
+    }
+
+    public void setTotalJobs(Long totalJobs) {
+        this.totalJobs = totalJobs;
+    }
+
+    public Long getActiveJobs() {
+        return activeJobs;
+    }
+
+    public void setActiveJobs(Long activeJobs) {
+        this.activeJobs = activeJobs;
+    }
+
+    public Long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(Long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public Long getPendingApplications() {
+        return pendingApplications;
+    }
+
+    public void setPendingApplications(Long pendingApplications) {
+        this.pendingApplications = pendingApplications;
+    }
+
+    public Long getShortlisted() {
+        return shortlisted;
+    }
+
+    public void setShortlisted(Long shortlisted) {
+        this.shortlisted = shortlisted;
+    }
+
+    public Long getHired() {
+        return hired;
+    }
+
+    public void setHired(Long hired) {
+        this.hired = hired;
+    }
+
+    public Long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(Long rejected) {
+        this.rejected = rejected;
+    }
+
+    public Long getTotalCandidates() {
+        return totalCandidates;
+    }
+
+    public void setTotalCandidates(Long totalCandidates) {
+        this.totalCandidates = totalCandidates;
+    }
+}
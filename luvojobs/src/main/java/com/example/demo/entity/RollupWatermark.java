@@ -0,0 +1,44 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * High-watermark of a rollup: source rows with timestamps up to and including it have been aggregated.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+public class RollupWatermark {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+
+    // Constructors
+    public RollupWatermark() {}
+
+    public RollupWatermark(String name, LocalDateTime watermark) {
+        this.name = name;
+        this.watermark = watermark;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(LocalDateTime watermark) {
+        this.watermark = watermark;
+    }
+}
@@ -17,6 +17,10 @@ public class Skill {
     @Column(nullable = false)
     private String name;
 
+    // Normalized form used for matching, see SkillNormalizer
+    @Column(name = "canonical_name")
+    private String canonicalName;
+
     // Constructors
     public Skill() {}
 
@@ -48,4 +52,12 @@ public class Skill {
     public void setName(String name) {
         this.name = name;
     }
+
+    public String getCanonicalName() {
+        return canonicalName;
+    }
+
+    public void setCanonicalName(String canonicalName) {
+        this.canonicalName = canonicalName;
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ApplicationRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApplicationRollupRepository extends JpaRepository<ApplicationRollup, Long> {
+
+    // New applications created in (from, to], added onto the bucket counts of their creation time
+    @Modifying
+    @Query(value = "INSERT INTO application_rollups (granularity, bucket_start, job_id, recruiter_id, event, event_count) " +
+            "SELECT :granularity, date_trunc(:granularity, a.created_at), a.job_id, j.recruiter_id, 'applied', COUNT(*) " +
+            "FROM job_applications a JOIN jobs j ON j.id = a.job_id " +
+            "WHERE a.created_at > :from AND a.created_at <= :to " +
+            "GROUP BY 2, 3, 4 " +
+            "ON CONFLICT (granularity, bucket_start, job_id, event) " +
+            "DO UPDATE SET event_count = application_rollups.event_count + EXCLUDED.event_count",
+            nativeQuery = true)
+    int rollUpApplied(@Param("granularity") String granularity, @Param("from") LocalDateTime from,
+                      @Param("to") LocalDateTime to);
+
+    // Every status transition made in (from, to], counted under the status entered
+    @Modifying
+    @Query(value = "INSERT INTO application_rollups (granularity, bucket_start, job_id, recruiter_id, event, event_count) " +
+            "SELECT :granularity, date_trunc(:granularity, c.changed_at), c.job_id, j.recruiter_id, c.status, COUNT(*) " +
+            "FROM application_status_changes c JOIN jobs j ON j.id = c.job_id " +
+            "WHERE c.changed_at > :from AND c.changed_at <= :to " +
+            "GROUP BY 2, 3, 4, 5 " +
+            "ON CONFLICT (granularity, bucket_start, job_id, event) " +
+            "DO UPDATE SET event_count = application_rollups.event_count + EXCLUDED.event_count",
+            nativeQuery = true)
+    int rollUpStatusChanges(@Param("granularity") String granularity, @Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM ApplicationRollup r WHERE r.recruiterId = :recruiterId AND r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart, r.jobId, r.event")
+    List<ApplicationRollup> findSeries(@Param("recruiterId") Long recruiterId, @Param("granularity") String granularity,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM ApplicationRollup r WHERE r.recruiterId = :recruiterId AND r.jobId = :jobId " +
+           "AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart, r.event")
+    List<ApplicationRollup> findJobSeries(@Param("recruiterId") Long recruiterId, @Param("jobId") Long jobId,
+                                          @Param("granularity") String granularity,
+                                          @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
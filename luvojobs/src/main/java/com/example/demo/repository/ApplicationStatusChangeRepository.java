@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ApplicationStatusChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationStatusChangeRepository extends JpaRepository<ApplicationStatusChange, Long> {
+}
@@ -2,9 +2,14 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.CandidateProfile;
 import com.example.demo.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,24 @@ public interface CandidateProfileRepository extends JpaRepository<CandidateProfi
     Optional<CandidateProfile> findByUser(User user);
     Optional<CandidateProfile> findByUserId(Long userId);
     boolean existsByUser(User user);
+
+    // Keyset batches of profiles whose match scores are materialized
+    @Query("SELECT p.id FROM CandidateProfile p WHERE p.matchScoresComputedAt IS NOT NULL AND p.id > :afterId ORDER BY p.id")
+    List<Long> findMaterializedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id FROM CandidateProfile p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // id, preferred career track, experience level, target role, canonical skill name, skill name
+    // (one row per skill) without loading entities
+    @Query("SELECT p.id, p.preferredCareerTrack, p.experienceLevel, p.targetRole, s.canonicalName, s.name FROM CandidateProfile p LEFT JOIN p.skills s WHERE p.id IN :ids")
+    List<Object[]> findMatchingAttributesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // profile id, project title, description, technologies
+    @Query("SELECT p.id, pr.title, pr.description, pr.technologies FROM CandidateProfile p JOIN p.projects pr WHERE p.id IN :ids")
+    List<Object[]> findProjectTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // profile id, position, description
+    @Query("SELECT p.id, e.position, e.description FROM CandidateProfile p JOIN p.experiences e WHERE p.id IN :ids")
+    List<Object[]> findExperienceTextsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,57 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.CounselorStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CounselorStatsRepository extends JpaRepository<CounselorStats, Long> {
+
+    // Only adjusts existing rows; a missing row is seeded from the source tables on the next read
+    @Modifying
+    @Query(value = "UPDATE counselor_stats SET total_students = total_students + :totalStudents, " +
+            "active_students = active_students + :activeStudents, total_sessions = total_sessions + :totalSessions, " +
+            "scheduled_sessions = scheduled_sessions + :scheduledSessions, " +
+            "total_career_plans = total_career_plans + :totalCareerPlans, " +
+            "active_career_plans = active_career_plans + :activeCareerPlans, " +
+            "total_resources = total_resources + :totalResources, " +
+            "featured_resources = featured_resources + :featuredResources " +
+            "WHERE counselor_id = :counselorId",
+            nativeQuery = true)
+    int applyDelta(@Param("counselorId") Long counselorId, @Param("totalStudents") long totalStudents,
+                   @Param("activeStudents") long activeStudents, @Param("totalSessions") long totalSessions,
+                   @Param("scheduledSessions") long scheduledSessions, @Param("totalCareerPlans") long totalCareerPlans,
+                   @Param("activeCareerPlans") long activeCareerPlans, @Param("totalResources") long totalResources,
+                   @Param("featuredResources") long featuredResources);
+
+    // Concurrent seeds race on the primary key; the first insert wins and the others insert 0 rows
+    @Modifying
+    @Query(value = "INSERT INTO counselor_stats (counselor_id, total_students, active_students, total_sessions, " +
+            "scheduled_sessions, total_career_plans, active_career_plans, total_resources, featured_resources) " +
+            "VALUES (:counselorId, :totalStudents, :activeStudents, :totalSessions, :scheduledSessions, " +
+            ":totalCareerPlans, :activeCareerPlans, :totalResources, :featuredResources) " +
+            "ON CONFLICT (counselor_id) DO NOTHING",
+            nativeQuery = true)
+    int seed(@Param("counselorId") Long counselorId, @Param("totalStudents") long totalStudents,
+             @Param("activeStudents") long activeStudents, @Param("totalSessions") long totalSessions,
+             @Param("scheduledSessions") long scheduledSessions, @Param("totalCareerPlans") long totalCareerPlans,
+             @Param("activeCareerPlans") long activeCareerPlans, @Param("totalResources") long totalResources,
+             @Param("featuredResources") long featuredResources);
+
+    @Query("SELECT s.counselorId FROM CounselorStats s WHERE s.counselorId > :afterId ORDER BY s.counselorId")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Row lock held while reconciliation recounts, so concurrent deltas wait instead of being overwritten
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CounselorStats s WHERE s.counselorId = :counselorId")
+    Optional<CounselorStats> findForUpdate(@Param("counselorId") Long counselorId);
+}
@@ -16,5 +16,6 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
     List<Interview> findByApplication(JobApplication application);
     List<Interview> findByRecruiterAndStatus(User recruiter, String status);
     List<Interview> findByRecruiterAndScheduledDateAfter(User recruiter, LocalDateTime date);
+    long countByRecruiterAndStatusAndScheduledDateAfter(User recruiter, String status, LocalDateTime date);
     Optional<Interview> findByApplicationAndRecruiter(JobApplication application, User recruiter);
 }
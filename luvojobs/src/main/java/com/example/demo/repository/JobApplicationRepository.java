@@ -6,8 +6,11 @@ import com.example.demo.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
     Optional<JobApplication> findByCandidateAndJob(User candidate, Job job);
     boolean existsByCandidateAndJob(User candidate, Job job);
+    boolean existsByCandidateAndJob_Recruiter(User candidate, User recruiter);
     List<JobApplication> findByCandidate(User candidate);
     Page<JobApplication> findByCandidate(User candidate, Pageable pageable);
     List<JobApplication> findByCandidateAndStatus(User candidate, String status);
@@ -23,9 +27,29 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     
     // Recruiter-specific methods
     List<JobApplication> findByJob(Job job);
+    long countByJob(Job job);
     List<JobApplication> findByJobAndStatus(Job job, String status);
     List<JobApplication> findByJob_Recruiter(User recruiter);
     List<JobApplication> findByJob_RecruiterAndStatus(User recruiter, String status);
     long countByJob_Recruiter(User recruiter);
     long countByJob_RecruiterAndStatus(User recruiter, String status);
+
+    @Query("SELECT a.job.id, COUNT(a) FROM JobApplication a GROUP BY a.job.id")
+    List<Object[]> countGroupedByJob();
+
+    // Co-application batch: candidates in keyset pages, then their applied job ids, newest first
+    @Query("SELECT DISTINCT a.candidate.id FROM JobApplication a WHERE a.candidate.id > :afterId ORDER BY a.candidate.id")
+    List<Long> findCandidateIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT a.candidate.id, a.job.id FROM JobApplication a WHERE a.candidate.id IN :candidateIds " +
+           "ORDER BY a.candidate.id, a.appliedDate DESC")
+    List<Object[]> findCandidateJobIdsByCandidateIdIn(@Param("candidateIds") Collection<Long> candidateIds);
+
+    @Query("SELECT a.job.id FROM JobApplication a WHERE a.candidate.id = :candidateId ORDER BY a.appliedDate DESC")
+    List<Long> findJobIdsByCandidateId(@Param("candidateId") Long candidateId);
+
+    // Number of candidates who applied to both the job and each of the others
+    @Query("SELECT b.job.id, COUNT(b) FROM JobApplication a, JobApplication b " +
+           "WHERE a.candidate = b.candidate AND a.job.id = :jobId AND b.job.id IN :jobIds GROUP BY b.job.id")
+    List<Object[]> countCoApplications(@Param("jobId") Long jobId, @Param("jobIds") Collection<Long> jobIds);
 }
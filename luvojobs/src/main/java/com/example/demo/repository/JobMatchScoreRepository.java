@@ -0,0 +1,47 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.JobMatchScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobMatchScoreRepository extends JpaRepository<JobMatchScore, Long> {
+
+    // Served by idx_job_match_scores_profile_score, so a page is an index range scan
+    // job id, score
+    @Query("SELECT s.jobId, s.score FROM JobMatchScore s WHERE s.profileId = :profileId ORDER BY s.score DESC, s.jobId DESC")
+    List<Object[]> findRankedScores(@Param("profileId") Long profileId, Pageable pageable);
+
+    long countByProfileId(Long profileId);
+
+    // Bulk upserts: ids and scores are comma separated lists of equal length, expanded with unnest
+    @Modifying
+    @Query(value = "INSERT INTO job_match_scores (profile_id, job_id, score) " +
+            "SELECT :profileId, s.job_id, s.score FROM unnest(" +
+            "CAST(string_to_array(:jobIds, ',') AS bigint[]), CAST(string_to_array(:scores, ',') AS integer[])) AS s(job_id, score) " +
+            "ON CONFLICT (profile_id, job_id) DO UPDATE SET score = EXCLUDED.score",
+            nativeQuery = true)
+    void upsertForProfile(@Param("profileId") Long profileId, @Param("jobIds") String jobIds, @Param("scores") String scores);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_match_scores (profile_id, job_id, score) " +
+            "SELECT s.profile_id, :jobId, s.score FROM unnest(" +
+            "CAST(string_to_array(:profileIds, ',') AS bigint[]), CAST(string_to_array(:scores, ',') AS integer[])) AS s(profile_id, score) " +
+            "ON CONFLICT (profile_id, job_id) DO UPDATE SET score = EXCLUDED.score",
+            nativeQuery = true)
+    void upsertForJob(@Param("jobId") Long jobId, @Param("profileIds") String profileIds, @Param("scores") String scores);
+
+    @Modifying
+    @Query("DELETE FROM JobMatchScore s WHERE s.profileId = :profileId")
+    void deleteByProfileId(@Param("profileId") Long profileId);
+
+    @Modifying
+    @Query("DELETE FROM JobMatchScore s WHERE s.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -5,21 +5,103 @@ import com.example.demo.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+
+    // Weighted document for full-text search: title (A) > company (B) > skills (C) > description (D)
+    String SEARCH_VECTOR = "setweight(to_tsvector('english', coalesce(j.title, '')), 'A') || " +
+            "setweight(to_tsvector('english', coalesce(j.company, '')), 'B') || " +
+            "setweight(to_tsvector('english', coalesce((SELECT string_agg(s.skill, ' ') FROM job_required_skills s WHERE s.job_id = j.id), '')), 'C') || " +
+            "setweight(to_tsvector('english', coalesce(j.description, '')), 'D')";
+
     Page<Job> findByStatus(String status, Pageable pageable);
+
+    // Keyset pagination over (posted_date, id) backed by idx_jobs_status_posted_date_id; no COUNT query
+    @Query("SELECT j FROM Job j WHERE j.status = :status ORDER BY j.postedDate DESC, j.id DESC")
+    List<Job> findFeedByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE j.status = :status AND " +
+           "(j.postedDate < :postedDate OR (j.postedDate = :postedDate AND j.id < :id)) " +
+           "ORDER BY j.postedDate DESC, j.id DESC")
+    List<Job> findFeedByStatusAfter(@Param("status") String status, @Param("postedDate") LocalDate postedDate,
+                                    @Param("id") Long id, Pageable pageable);
     
     @Query("SELECT j FROM Job j WHERE j.status = 'active' AND " +
            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(j.company) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(j.description) LIKE LOWER(CONCAT('%', :query, '%')))")
     Page<Job> searchActiveJobs(@Param("query") String query, Pageable pageable);
+
+    @Query(value = "SELECT j.* FROM jobs j " +
+           "WHERE j.status = 'active' AND j.search_vector @@ plainto_tsquery('english', :query) " +
+           "ORDER BY ts_rank(j.search_vector, plainto_tsquery('english', :query)) DESC, j.id DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j " +
+           "WHERE j.status = 'active' AND j.search_vector @@ plainto_tsquery('english', :query)",
+           nativeQuery = true)
+    Page<Job> searchActiveJobsRanked(@Param("query") String query, Pageable pageable);
+
+    // Typo-tolerant match on title/company, served by the gin_trgm_ops indexes from schema.sql
+    @Query(value = "SELECT j.* FROM jobs j " +
+           "WHERE j.status = 'active' AND (:query <% lower(j.title) OR :query <% lower(j.company)) " +
+           "ORDER BY GREATEST(word_similarity(:query, lower(j.title)), word_similarity(:query, lower(j.company))) DESC, j.id DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j " +
+           "WHERE j.status = 'active' AND (:query <% lower(j.title) OR :query <% lower(j.company))",
+           nativeQuery = true)
+    Page<Job> fuzzySearchActiveJobs(@Param("query") String query, Pageable pageable);
+
+    // Id-only variants of the three searches above, for facet counts over every match
+    @Query("SELECT j.id FROM Job j WHERE j.status = 'active' AND " +
+           "(LOWER(j.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(j.company) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(j.description) LIKE LOWER(CONCAT('%', :query, '%')))")
+    List<Long> searchActiveJobIds(@Param("query") String query);
+
+    @Query(value = "SELECT j.id FROM jobs j " +
+           "WHERE j.status = 'active' AND j.search_vector @@ plainto_tsquery('english', :query)",
+           nativeQuery = true)
+    List<Long> searchActiveJobIdsRanked(@Param("query") String query);
+
+    @Query(value = "SELECT j.id FROM jobs j " +
+           "WHERE j.status = 'active' AND (:query <% lower(j.title) OR :query <% lower(j.company))",
+           nativeQuery = true)
+    List<Long> fuzzySearchActiveJobIds(@Param("query") String query);
+
+    // Transaction-local threshold for the <% operator
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") String threshold);
+
+    @Modifying
+    @Query(value = "UPDATE jobs j SET search_vector = " + SEARCH_VECTOR + " WHERE j.id = :jobId", nativeQuery = true)
+    void refreshSearchVector(@Param("jobId") Long jobId);
+
+    @Query("SELECT DISTINCT j FROM Job j LEFT JOIN FETCH j.requiredSkills WHERE j.status = :status")
+    List<Job> findAllWithSkillsByStatus(@Param("status") String status);
+
+    @Query("SELECT DISTINCT j FROM Job j LEFT JOIN FETCH j.canonicalSkills WHERE j.status = :status")
+    List<Job> findAllWithCanonicalSkillsByStatus(@Param("status") String status);
+
+    // job id, views
+    @Query("SELECT j.id, j.views FROM Job j WHERE j.status = :status")
+    List<Object[]> findViewsByStatus(@Param("status") String status);
+
+    // job id, views
+    @Query("SELECT j.id, j.views FROM Job j WHERE j.id IN :ids")
+    List<Object[]> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // job id, requirement (one row per requirement)
+    @Query("SELECT j.id, r FROM Job j JOIN j.requirements r WHERE j.status = :status")
+    List<Object[]> findRequirementsByStatus(@Param("status") String status);
     
     List<Job> findByStatusAndType(String status, String type);
     List<Job> findByStatusAndLocationContainingIgnoreCase(String status, String location);
@@ -33,4 +115,22 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     Page<Job> findByRecruiterAndStatus(User recruiter, String status, Pageable pageable);
     long countByRecruiter(User recruiter);
     long countByRecruiterAndStatus(User recruiter, String status);
+
+    // Every recruiter dashboard count in one round trip:
+    // total jobs, active jobs, total applications, pending (pending + reviewing), shortlisted, hired, rejected,
+    // distinct candidates, upcoming scheduled interviews
+    @Query(value = "WITH recruiter_jobs AS (SELECT j.id, j.status FROM jobs j WHERE j.recruiter_id = :recruiterId) " +
+           "SELECT (SELECT COUNT(*) FROM recruiter_jobs), " +
+           "(SELECT COUNT(*) FROM recruiter_jobs WHERE status = 'active'), " +
+           "COUNT(a.id), " +
+           "COUNT(a.id) FILTER (WHERE a.status IN ('pending', 'reviewing')), " +
+           "COUNT(a.id) FILTER (WHERE a.status = 'shortlisted'), " +
+           "COUNT(a.id) FILTER (WHERE a.status = 'hired'), " +
+           "COUNT(a.id) FILTER (WHERE a.status = 'rejected'), " +
+           "COUNT(DISTINCT a.candidate_id), " +
+           "(SELECT COUNT(*) FROM interviews i WHERE i.recruiter_id = :recruiterId " +
+           "AND i.status = 'scheduled' AND i.scheduled_date > :now) " +
+           "FROM recruiter_jobs j JOIN job_applications a ON a.job_id = j.id",
+           nativeQuery = true)
+    List<Object[]> findRecruiterDashboardCounts(@Param("recruiterId") Long recruiterId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,62 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable query predicates for the job board filters
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {}
+
+    /**
+     * Active jobs narrowed by the given filters. A null or "all" filter is ignored.
+     */
+    public static Specification<Job> activeJobsMatching(String type, String location, String experienceLevel, String careerTrack) {
+        Specification<Job> spec = hasStatus("active");
+        if (isSet(type)) {
+            spec = spec.and(hasType(type));
+        }
+        if (isSet(location)) {
+            spec = spec.and(inLocation(location));
+        }
+        if (isSet(experienceLevel)) {
+            spec = spec.and(hasExperienceLevel(experienceLevel));
+        }
+        if (isSet(careerTrack)) {
+            spec = spec.and(hasCareerTrack(careerTrack));
+        }
+        return spec;
+    }
+
+    public static Specification<Job> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Job> hasType(String type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    /**
+     * "remote" matches any location mentioning remote work, anything else is an exact match
+     */
+    public static Specification<Job> inLocation(String location) {
+        if (location.equals("remote")) {
+            return (root, query, cb) -> cb.like(cb.lower(root.get("location")), "%remote%");
+        }
+        return (root, query, cb) -> cb.equal(root.get("location"), location);
+    }
+
+    public static Specification<Job> hasExperienceLevel(String experienceLevel) {
+        return (root, query, cb) -> cb.equal(root.get("experienceLevel"), experienceLevel);
+    }
+
+    public static Specification<Job> hasCareerTrack(String careerTrack) {
+        return (root, query, cb) -> cb.equal(root.get("careerTrack"), careerTrack);
+    }
+
+    private static boolean isSet(String filter) {
+        return filter != null && !filter.equals("all");
+    }
+}
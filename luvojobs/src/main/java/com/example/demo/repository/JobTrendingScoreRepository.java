@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.JobTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobTrendingScoreRepository extends JpaRepository<JobTrendingScore, Long> {
+
+    // Bulk upsert: ids and scores are comma separated lists of equal length, expanded with unnest
+    @Modifying
+    @Query(value = "INSERT INTO job_trending_scores (job_id, score, scored_at) " +
+            "SELECT s.job_id, s.score, :scoredAt FROM unnest(" +
+            "CAST(string_to_array(:jobIds, ',') AS bigint[]), CAST(string_to_array(:scores, ',') AS double precision[])) AS s(job_id, score) " +
+            "ON CONFLICT (job_id) DO UPDATE SET score = EXCLUDED.score, scored_at = EXCLUDED.scored_at",
+            nativeQuery = true)
+    void upsertAll(@Param("jobIds") String jobIds, @Param("scores") String scores, @Param("scoredAt") LocalDateTime scoredAt);
+
+    // Drop jobs that fell out of the top since the last checkpoint; an empty list clears the table
+    @Modifying
+    @Query(value = "DELETE FROM job_trending_scores WHERE job_id <> ALL(CAST(string_to_array(:jobIds, ',') AS bigint[]))",
+            nativeQuery = true)
+    void deleteAllExcept(@Param("jobIds") String jobIds);
+}
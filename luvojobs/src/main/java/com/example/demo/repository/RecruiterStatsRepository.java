@@ -0,0 +1,55 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.RecruiterStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecruiterStatsRepository extends JpaRepository<RecruiterStats, Long> {
+
+    // Only adjusts existing rows; a missing row is seeded from the source tables on the next read
+    @Modifying
+    @Query(value = "UPDATE recruiter_stats SET total_jobs = total_jobs + :totalJobs, active_jobs = active_jobs + :activeJobs, " +
+            "total_applications = total_applications + :totalApplications, " +
+            "pending_applications = pending_applications + :pendingApplications, " +
+            "shortlisted = shortlisted + :shortlisted, hired = hired + :hired, rejected = rejected + :rejected, " +
+            "total_candidates = total_candidates + :totalCandidates " +
+            "WHERE recruiter_id = :recruiterId",
+            nativeQuery = true)
+    int applyDelta(@Param("recruiterId") Long recruiterId, @Param("totalJobs") long totalJobs,
+                   @Param("activeJobs") long activeJobs, @Param("totalApplications") long totalApplications,
+                   @Param("pendingApplications") long pendingApplications, @Param("shortlisted") long shortlisted,
+                   @Param("hired") long hired, @Param("rejected") long rejected,
+                   @Param("totalCandidates") long totalCandidates);
+
+    // Concurrent seeds race on the primary key; the first insert wins and the others insert 0 rows
+    @Modifying
+    @Query(value = "INSERT INTO recruiter_stats (recruiter_id, total_jobs, active_jobs, total_applications, " +
+            "pending_applications, shortlisted, hired, rejected, total_candidates) " +
+            "VALUES (:recruiterId, :totalJobs, :activeJobs, :totalApplications, :pendingApplications, " +
+            ":shortlisted, :hired, :rejected, :totalCandidates) " +
+            "ON CONFLICT (recruiter_id) DO NOTHING",
+            nativeQuery = true)
+    int seed(@Param("recruiterId") Long recruiterId, @Param("totalJobs") long totalJobs,
+             @Param("activeJobs") long activeJobs, @Param("totalApplications") long totalApplications,
+             @Param("pendingApplications") long pendingApplications, @Param("shortlisted") long shortlisted,
+             @Param("hired") long hired, @Param("rejected") long rejected,
+             @Param("totalCandidates") long totalCandidates);
+
+    @Query("SELECT s.recruiterId FROM RecruiterStats s WHERE s.recruiterId > :afterId ORDER BY s.recruiterId")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Row lock held while reconciliation recounts, so concurrent deltas wait instead of being overwritten
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RecruiterStats s WHERE s.recruiterId = :recruiterId")
+    Optional<RecruiterStats> findForUpdate(@Param("recruiterId") Long recruiterId);
+}
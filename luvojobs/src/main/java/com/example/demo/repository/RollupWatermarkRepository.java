@@ -0,0 +1,27 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.RollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO rollup_watermarks (name, watermark) VALUES (:name, :watermark) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    void initialize(@Param("name") String name, @Param("watermark") LocalDateTime watermark);
+
+    // Row lock so that only one instance advances a rollup at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.name = :name")
+    Optional<RollupWatermark> findForUpdate(@Param("name") String name);
+}
@@ -3,6 +3,8 @@ package com.example.demo.repository;
 import com.example.demo.entity.Student;
 import com.example.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,16 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByUser(User user);
     Optional<Student> findByUserAndCounselor(User user, User counselor);
     boolean existsByUserAndCounselor(User user, User counselor);
+
+    // Counselor dashboard in one round trip: kind (student, session, plan, resource), status, count.
+    // Resources are split into featured / other instead of a status.
+    @Query(value = "SELECT 'student', s.status, COUNT(*) FROM students s WHERE s.counselor_id = :counselorId GROUP BY s.status " +
+           "UNION ALL SELECT 'session', cs.status, COUNT(*) FROM counseling_sessions cs " +
+           "WHERE cs.counselor_id = :counselorId GROUP BY cs.status " +
+           "UNION ALL SELECT 'plan', cp.status, COUNT(*) FROM career_plans cp " +
+           "WHERE cp.counselor_id = :counselorId GROUP BY cp.status " +
+           "UNION ALL SELECT 'resource', CASE WHEN r.is_featured THEN 'featured' ELSE 'other' END, COUNT(*) " +
+           "FROM resources r WHERE r.counselor_id = :counselorId GROUP BY 2",
+           nativeQuery = true)
+    List<Object[]> countCounselorDashboardByStatus(@Param("counselorId") Long counselorId);
 }
@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers changes to in-memory caches and indexes until the surrounding transaction commits.
+ * Applied earlier, a concurrent reader could cache pre-commit data, and a rollback would leave the change behind.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * Run the action after the current transaction commits, or right away outside a transaction
+     */
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
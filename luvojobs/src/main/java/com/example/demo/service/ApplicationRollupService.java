@@ -0,0 +1,131 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ApplicationTimeseriesResponse;
+import com.example.demo.entity.ApplicationRollup;
+import com.example.demo.entity.RollupWatermark;
+import com.example.demo.repository.ApplicationRollupRepository;
+import com.example.demo.repository.RollupWatermarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hourly and daily application counts per job behind the recruiter analytics charts.
+ * A background job folds the applications created and the status transitions logged since the last watermark
+ * into application_rollups, so chart reads never scan the raw applications.
+ */
+@Service
+@Transactional
+public class ApplicationRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationRollupService.class);
+
+    public static final String HOUR = "hour";
+    public static final String DAY = "day";
+
+    private static final String WATERMARK = "application_rollups";
+
+    // The first run starts here and so backfills every existing application
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int DEFAULT_HOUR_BUCKETS = 48;
+    private static final int DEFAULT_DAY_BUCKETS = 30;
+    private static final int MAX_HOUR_BUCKETS = 24 * 31;
+    private static final int MAX_DAY_BUCKETS = 366;
+
+    private final ApplicationRollupRepository rollupRepository;
+    private final RollupWatermarkRepository watermarkRepository;
+    private final Duration lag;
+
+    public ApplicationRollupService(ApplicationRollupRepository rollupRepository,
+                                    RollupWatermarkRepository watermarkRepository,
+                                    @Value("${analytics.rollup.lag-ms:60000}") long lagMillis) {
+        this.rollupRepository = rollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.lag = Duration.ofMillis(lagMillis);
+    }
+
+    /**
+     * Aggregate everything between the watermark and now minus the lag, then move the watermark.
+     * The lag leaves room for transactions that stamped their rows earlier but have not committed yet.
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval-ms:300000}",
+            initialDelayString = "${analytics.rollup.interval-ms:300000}")
+    public void rollUp() {
+        watermarkRepository.initialize(WATERMARK, ORIGIN);
+        RollupWatermark watermark = watermarkRepository.findForUpdate(WATERMARK)
+                .orElseThrow(() -> new RuntimeException("Rollup watermark not found"));
+
+        LocalDateTime from = watermark.getWatermark();
+        LocalDateTime to = LocalDateTime.now().minus(lag);
+        if (!to.isAfter(from)) {
+            return;
+        }
+
+        int rows = 0;
+        for (String granularity : new String[]{HOUR, DAY}) {
+            rows += rollupRepository.rollUpApplied(granularity, from, to);
+            rows += rollupRepository.rollUpStatusChanges(granularity, from, to);
+        }
+        watermark.setWatermark(to);
+        log.debug("Rolled up applications in ({}, {}] into {} buckets", from, to, rows);
+    }
+
+    /**
+     * Event counts of the recruiter's jobs, or of one job, per bucket in [from, to).
+     * The range is widened to whole buckets and defaults to the last 48 hours or 30 days.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationTimeseriesResponse getTimeseries(Long recruiterId, String granularity, Long jobId,
+                                                       LocalDateTime from, LocalDateTime to) {
+        ChronoUnit unit;
+        int defaultBuckets;
+        int maxBuckets;
+        if (HOUR.equals(granularity)) {
+            unit = ChronoUnit.HOURS;
+            defaultBuckets = DEFAULT_HOUR_BUCKETS;
+            maxBuckets = MAX_HOUR_BUCKETS;
+        } else if (DAY.equals(granularity)) {
+            unit = ChronoUnit.DAYS;
+            defaultBuckets = DEFAULT_DAY_BUCKETS;
+            maxBuckets = MAX_DAY_BUCKETS;
+        } else {
+            throw new RuntimeException("Granularity must be hour or day");
+        }
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (!end.truncatedTo(unit).equals(end)) {
+            end = end.truncatedTo(unit).plus(1, unit);
+        }
+        LocalDateTime start = from != null ? from.truncatedTo(unit) : end.minus(defaultBuckets, unit);
+        if (!start.isBefore(end)) {
+            throw new RuntimeException("from must be before to");
+        }
+        if (unit.between(start, end) > maxBuckets) {
+            throw new RuntimeException("Time range too large: at most " + maxBuckets + " " + granularity + " buckets");
+        }
+
+        List<ApplicationRollup> rollups = jobId != null
+                ? rollupRepository.findJobSeries(recruiterId, jobId, granularity, start, end)
+                : rollupRepository.findSeries(recruiterId, granularity, start, end);
+        List<ApplicationTimeseriesResponse.TimeseriesPoint> points = new ArrayList<>(rollups.size());
+        for (ApplicationRollup rollup : rollups) {
+            points.add(new ApplicationTimeseriesResponse.TimeseriesPoint(rollup.getBucketStart(), rollup.getJobId(),
+                    rollup.getEvent(), rollup.getEventCount()));
+        }
+
+        LocalDateTime rolledUpTo = watermarkRepository.findById(WATERMARK)
+                .map(RollupWatermark::getWatermark)
+                .orElse(null);
+        return new ApplicationTimeseriesResponse(granularity, start, end, rolledUpTo, points);
+    }
+}
@@ -23,13 +23,21 @@ public class ApplicationService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final FruvoCoinService fruvoCoinService;
+    private final JobCoApplicationIndex coApplicationIndex;
+    private final JobTrendingTracker trendingTracker;
+    private final DashboardCounterService counterService;
 
     public ApplicationService(JobApplicationRepository applicationRepository, JobRepository jobRepository, 
-                              UserRepository userRepository, FruvoCoinService fruvoCoinService) {
+                              UserRepository userRepository, FruvoCoinService fruvoCoinService,
+                              JobCoApplicationIndex coApplicationIndex, JobTrendingTracker trendingTracker,
+                              DashboardCounterService counterService) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.fruvoCoinService = fruvoCoinService;
+        this.coApplicationIndex = coApplicationIndex;
+        this.trendingTracker = trendingTracker;
+        this.counterService = counterService;
     }
 
     public ApplicationResponse applyToJob(Long userId, Long jobId) {
@@ -54,9 +62,21 @@ public class ApplicationService {
             coinsDeducted = job.getFruvoCoinRequired();
         }
 
+        User recruiter = job.getRecruiter();
+        boolean firstForRecruiter = recruiter != null
+                && !applicationRepository.existsByCandidateAndJob_Recruiter(candidate, recruiter);
+
         JobApplication application = new JobApplication(candidate, job);
         application.setCoinsDeducted(coinsDeducted);
         application = applicationRepository.save(application);
+        if (recruiter != null) {
+            counterService.applicationSubmitted(recruiter.getId(), application.getStatus(), firstForRecruiter);
+        }
+        // Only committed applications count towards co-application pairs and trending
+        AfterCommit.run(() -> {
+            coApplicationIndex.recordApplication(userId, jobId);
+            trendingTracker.recordApplication(jobId);
+        });
 
         return mapToResponse(application);
     }
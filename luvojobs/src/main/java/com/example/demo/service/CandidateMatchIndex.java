@@ -0,0 +1,233 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.CandidateProfileRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from skill id, career track and experience level to candidate profile ids,
+ * used to rank candidates for a job without scanning every profile.
+ */
+@Component
+public class CandidateMatchIndex {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final CandidateProfileRepository profileRepository;
+    private final JobMatchScorer matchScorer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, JobMatchScorer.MatchableCandidate> candidates = new HashMap<>();
+    private Map<Integer, Set<Long>> skillPostings = new HashMap<>();
+    private Map<String, Set<Long>> trackPostings = new HashMap<>();
+    private Map<String, Set<Long>> experiencePostings = new HashMap<>();
+
+    public CandidateMatchIndex(CandidateProfileRepository profileRepository, JobMatchScorer matchScorer) {
+        this.profileRepository = profileRepository;
+        this.matchScorer = matchScorer;
+    }
+
+    /**
+     * Rebuild the index from every candidate profile, in keyset batches
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2) // after JobMatchCatalog, so profile text is vectorized against the job vocabulary
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<JobMatchScorer.MatchableCandidate> loaded = new ArrayList<>();
+        Long afterId = 0L;
+        List<Long> profileIds;
+        while (!(profileIds = profileRepository.findIdsAfter(afterId, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            loaded.addAll(loadCandidates(profileIds));
+            afterId = profileIds.get(profileIds.size() - 1);
+        }
+
+        lock.writeLock().lock();
+        try {
+            candidates = new HashMap<>();
+            skillPostings = new HashMap<>();
+            trackPostings = new HashMap<>();
+            experiencePostings = new HashMap<>();
+            for (JobMatchScorer.MatchableCandidate candidate : loaded) {
+                link(candidate);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index a candidate profile
+     */
+    public void index(JobMatchScorer.MatchableCandidate candidate) {
+        lock.writeLock().lock();
+        try {
+            unlink(candidate.getProfileId());
+            link(candidate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public JobMatchScorer.MatchableCandidate get(Long profileId) {
+        lock.readLock().lock();
+        try {
+            return candidates.get(profileId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Page of candidates ranked by match score for a job. Only candidates sharing at least one
+     * skill with the job are scored; the total counts those candidates.
+     */
+    public Page<JobMatchScorer.ScoredMatch> rankCandidates(JobMatchCatalog.MatchableJob job, Pageable pageable) {
+        int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<JobMatchScorer.ScoredMatch> best = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)));
+        int total;
+
+        lock.readLock().lock();
+        try {
+            // Term-at-a-time: count shared skills per candidate from the skill postings
+            Map<Long, Integer> skillMatches = new HashMap<>();
+            BitSet jobSkills = job.getSkills();
+            for (int skillId = jobSkills.nextSetBit(0); skillId >= 0; skillId = jobSkills.nextSetBit(skillId + 1)) {
+                for (Long profileId : skillPostings.getOrDefault(skillId, Collections.emptySet())) {
+                    skillMatches.merge(profileId, 1, Integer::sum);
+                }
+            }
+            total = skillMatches.size();
+
+            Set<Long> sameTrack = job.getCareerTrack().isEmpty()
+                    ? Collections.emptySet()
+                    : trackPostings.getOrDefault(job.getCareerTrack(), Collections.emptySet());
+
+            // Experience points depend only on the level, so they are worked out once per distinct level
+            Map<Long, Integer> experiencePoints = new HashMap<>();
+            for (Map.Entry<String, Set<Long>> posting : experiencePostings.entrySet()) {
+                int points = JobMatchScorer.experiencePoints(job.getExperienceLevel(), posting.getKey());
+                if (points > 0) {
+                    for (Long profileId : posting.getValue()) {
+                        if (skillMatches.containsKey(profileId)) {
+                            experiencePoints.put(profileId, points);
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<Long, Integer> entry : skillMatches.entrySet()) {
+                Long profileId = entry.getKey();
+                int score = JobMatchScorer.combine(entry.getValue(), sameTrack.contains(profileId),
+                        experiencePoints.getOrDefault(profileId, 0),
+                        matchScorer.descriptionPoints(job, candidates.get(profileId)));
+                JobMatchScorer.offer(best, new JobMatchScorer.ScoredMatch(profileId, score), k);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<JobMatchScorer.ScoredMatch> ranked = JobMatchScorer.sorted(best);
+        List<JobMatchScorer.ScoredMatch> content = ranked.subList((int) Math.min(pageable.getOffset(), ranked.size()), ranked.size());
+        return new PageImpl<>(new ArrayList<>(content), pageable, total);
+    }
+
+    /**
+     * Load matching views of profiles without materializing profile entities
+     */
+    public List<JobMatchScorer.MatchableCandidate> loadCandidates(Collection<Long> profileIds) {
+        // One row per profile skill; profiles without skills come back once with a null name
+        Map<Long, Object[]> attributes = new LinkedHashMap<>();
+        Map<Long, List<String>> skills = new HashMap<>();
+        Map<Long, StringBuilder> texts = new HashMap<>();
+        for (Object[] row : profileRepository.findMatchingAttributesByIdIn(profileIds)) {
+            Long profileId = (Long) row[0];
+            if (attributes.putIfAbsent(profileId, row) == null) {
+                JobMatchScorer.appendText(texts.computeIfAbsent(profileId, id -> new StringBuilder()), (String) row[3]);
+            }
+            List<String> names = skills.computeIfAbsent(profileId, id -> new ArrayList<>());
+            if (row[5] != null) {
+                names.add(matchScorer.canonicalName((String) row[4], (String) row[5]));
+            }
+        }
+        for (Object[] row : profileRepository.findProjectTextsByIdIn(profileIds)) {
+            StringBuilder text = texts.computeIfAbsent((Long) row[0], id -> new StringBuilder());
+            JobMatchScorer.appendText(text, (String) row[1]);
+            JobMatchScorer.appendText(text, (String) row[2]);
+            JobMatchScorer.appendText(text, (String) row[3]);
+        }
+        for (Object[] row : profileRepository.findExperienceTextsByIdIn(profileIds)) {
+            StringBuilder text = texts.computeIfAbsent((Long) row[0], id -> new StringBuilder());
+            JobMatchScorer.appendText(text, (String) row[1]);
+            JobMatchScorer.appendText(text, (String) row[2]);
+        }
+
+        List<JobMatchScorer.MatchableCandidate> loaded = new ArrayList<>(attributes.size());
+        for (Map.Entry<Long, Object[]> entry : attributes.entrySet()) {
+            Long profileId = entry.getKey();
+            Object[] row = entry.getValue();
+            loaded.add(matchScorer.candidateOf(profileId, skills.get(profileId), (String) row[1], (String) row[2],
+                    texts.get(profileId).toString()));
+        }
+        return loaded;
+    }
+
+    private void link(JobMatchScorer.MatchableCandidate candidate) {
+        Long profileId = candidate.getProfileId();
+        candidates.put(profileId, candidate);
+        BitSet skills = candidate.getSkills();
+        for (int skillId = skills.nextSetBit(0); skillId >= 0; skillId = skills.nextSetBit(skillId + 1)) {
+            skillPostings.computeIfAbsent(skillId, id -> new HashSet<>()).add(profileId);
+        }
+        if (!candidate.getPreferredTrack().isEmpty()) {
+            trackPostings.computeIfAbsent(candidate.getPreferredTrack(), t -> new HashSet<>()).add(profileId);
+        }
+        if (!candidate.getExperienceLevel().isEmpty()) {
+            experiencePostings.computeIfAbsent(candidate.getExperienceLevel(), l -> new HashSet<>()).add(profileId);
+        }
+    }
+
+    private void unlink(Long profileId) {
+        JobMatchScorer.MatchableCandidate candidate = candidates.remove(profileId);
+        if (candidate == null) {
+            return;
+        }
+        BitSet skills = candidate.getSkills();
+        for (int skillId = skills.nextSetBit(0); skillId >= 0; skillId = skills.nextSetBit(skillId + 1)) {
+            removePosting(skillPostings, skillId, profileId);
+        }
+        removePosting(trackPostings, candidate.getPreferredTrack(), profileId);
+        removePosting(experiencePostings, candidate.getExperienceLevel(), profileId);
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> postings, K key, Long profileId) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(profileId);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
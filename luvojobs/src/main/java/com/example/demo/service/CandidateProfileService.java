@@ -17,10 +17,20 @@ public class CandidateProfileService {
 
     private final CandidateProfileRepository profileRepository;
     private final UserRepository userRepository;
-
-    public CandidateProfileService(CandidateProfileRepository profileRepository, UserRepository userRepository) {
+    private final SkillNormalizer skillNormalizer;
+    private final JobMatchScorer matchScorer;
+    private final CandidateMatchIndex candidateIndex;
+    private final JobMatchScoreWorker matchScoreWorker;
+
+    public CandidateProfileService(CandidateProfileRepository profileRepository, UserRepository userRepository,
+                                   SkillNormalizer skillNormalizer, JobMatchScorer matchScorer, CandidateMatchIndex candidateIndex,
+                                   JobMatchScoreWorker matchScoreWorker) {
         this.profileRepository = profileRepository;
         this.userRepository = userRepository;
+        this.skillNormalizer = skillNormalizer;
+        this.matchScorer = matchScorer;
+        this.candidateIndex = candidateIndex;
+        this.matchScoreWorker = matchScoreWorker;
     }
 
     public CandidateProfileResponse createOrUpdateProfile(Long userId, CandidateProfileRequest request) {
@@ -43,6 +53,7 @@ public class CandidateProfileService {
             final CandidateProfile finalProfile = profile;
             request.getSkills().forEach(skillReq -> {
                 Skill skill = new Skill(skillReq.getName());
+                skill.setCanonicalName(skillNormalizer.normalize(skillReq.getName()));
                 skill.setProfile(finalProfile);
                 finalProfile.getSkills().add(skill);
             });
@@ -103,7 +114,13 @@ public class CandidateProfileService {
             });
         }
 
+        // Stored match scores are stale from here on; matches are ranked live until the refresh rewrites them
+        profile.setMatchScoresComputedAt(null);
         profile = profileRepository.save(profile);
+        JobMatchScorer.MatchableCandidate candidate = matchScorer.candidateOf(profile);
+        // As on the job write paths, the in-memory index and the stored scores only follow a committed write
+        AfterCommit.run(() -> candidateIndex.index(candidate));
+        matchScoreWorker.refreshProfile(profile.getId());
         return mapToResponse(profile);
     }
 
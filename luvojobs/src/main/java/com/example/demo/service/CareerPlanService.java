@@ -21,13 +21,16 @@ public class CareerPlanService {
     private final CareerPlanRepository careerPlanRepository;
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
+    private final DashboardCounterService counterService;
 
     public CareerPlanService(CareerPlanRepository careerPlanRepository,
                             StudentRepository studentRepository,
-                            UserRepository userRepository) {
+                            UserRepository userRepository,
+                            DashboardCounterService counterService) {
         this.careerPlanRepository = careerPlanRepository;
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
+        this.counterService = counterService;
     }
 
     public CareerPlanResponse createCareerPlan(Long counselorId, CareerPlanRequest request) {
@@ -51,6 +54,7 @@ public class CareerPlanService {
         plan.setStatus(request.getStatus() != null ? request.getStatus() : "draft");
 
         plan = careerPlanRepository.save(plan);
+        counterService.careerPlanCreated(counselorId, plan.getStatus());
         return mapToResponse(plan);
     }
 
@@ -65,6 +69,7 @@ public class CareerPlanService {
         Student student = studentRepository.findById(request.getStudentId())
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
+        String previousStatus = plan.getStatus();
         plan.setStudent(student);
         plan.setTitle(request.getTitle());
         plan.setTimeline(request.getTimeline());
@@ -75,6 +80,7 @@ public class CareerPlanService {
         }
 
         plan = careerPlanRepository.save(plan);
+        counterService.careerPlanStatusChanged(counselorId, previousStatus, plan.getStatus());
         return mapToResponse(plan);
     }
 
@@ -87,6 +93,7 @@ public class CareerPlanService {
         }
 
         careerPlanRepository.delete(plan);
+        counterService.careerPlanDeleted(counselorId, plan.getStatus());
     }
 
     public List<CareerPlanResponse> getCareerPlans(Long counselorId) {
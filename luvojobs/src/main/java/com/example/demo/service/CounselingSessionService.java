@@ -21,13 +21,16 @@ public class CounselingSessionService {
     private final CounselingSessionRepository sessionRepository;
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
+    private final DashboardCounterService counterService;
 
     public CounselingSessionService(CounselingSessionRepository sessionRepository,
                                     StudentRepository studentRepository,
-                                    UserRepository userRepository) {
+                                    UserRepository userRepository,
+                                    DashboardCounterService counterService) {
         this.sessionRepository = sessionRepository;
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
+        this.counterService = counterService;
     }
 
     public SessionResponse createSession(Long counselorId, SessionRequest request) {
@@ -57,6 +60,7 @@ public class CounselingSessionService {
         studentRepository.save(student);
 
         session = sessionRepository.save(session);
+        counterService.sessionCreated(counselorId, session.getStatus());
         return mapToResponse(session);
     }
 
@@ -92,6 +96,7 @@ public class CounselingSessionService {
         }
 
         sessionRepository.delete(session);
+        counterService.sessionDeleted(counselorId, session.getStatus());
     }
 
     public List<SessionResponse> getSessions(Long counselorId) {
@@ -120,12 +125,14 @@ public class CounselingSessionService {
             throw new RuntimeException("You don't have permission to update this session");
         }
 
+        String previousStatus = session.getStatus();
         session.setStatus(status);
         if (feedback != null) {
             session.setFeedback(feedback);
         }
 
         session = sessionRepository.save(session);
+        counterService.sessionStatusChanged(counselorId, previousStatus, session.getStatus());
         return mapToResponse(session);
     }
 
@@ -0,0 +1,454 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.CounselorStats;
+import com.example.demo.entity.RecruiterStats;
+import com.example.demo.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maintains the recruiter_stats and counselor_stats counter rows behind the dashboards.
+ * Write paths call in here inside their own transaction, so a counter moves if and only if the write commits.
+ */
+@Service
+@Transactional
+public class DashboardCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounterService.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // Positions in a recruiter counter vector, in recruiter_stats column order
+    private static final int TOTAL_JOBS = 0;
+    private static final int ACTIVE_JOBS = 1;
+    private static final int TOTAL_APPLICATIONS = 2;
+    private static final int PENDING_APPLICATIONS = 3;
+    private static final int SHORTLISTED = 4;
+    private static final int HIRED = 5;
+    private static final int REJECTED = 6;
+    private static final int TOTAL_CANDIDATES = 7;
+
+    // Positions in a counselor counter vector, in counselor_stats column order
+    private static final int TOTAL_STUDENTS = 0;
+    private static final int ACTIVE_STUDENTS = 1;
+    private static final int TOTAL_SESSIONS = 2;
+    private static final int SCHEDULED_SESSIONS = 3;
+    private static final int TOTAL_CAREER_PLANS = 4;
+    private static final int ACTIVE_CAREER_PLANS = 5;
+    private static final int TOTAL_RESOURCES = 6;
+    private static final int FEATURED_RESOURCES = 7;
+
+    private static final int COUNTERS = 8;
+
+    private final RecruiterStatsRepository recruiterStatsRepository;
+    private final CounselorStatsRepository counselorStatsRepository;
+    private final JobRepository jobRepository;
+    private final StudentRepository studentRepository;
+    private final DashboardStatsCache statsCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public DashboardCounterService(RecruiterStatsRepository recruiterStatsRepository,
+                                   CounselorStatsRepository counselorStatsRepository,
+                                   JobRepository jobRepository,
+                                   StudentRepository studentRepository,
+                                   DashboardStatsCache statsCache,
+                                   PlatformTransactionManager transactionManager) {
+        this.recruiterStatsRepository = recruiterStatsRepository;
+        this.counselorStatsRepository = counselorStatsRepository;
+        this.jobRepository = jobRepository;
+        this.studentRepository = studentRepository;
+        this.statsCache = statsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Recruiter write paths
+
+    public void jobCreated(Long recruiterId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_JOBS] = 1;
+        delta[ACTIVE_JOBS] = "active".equals(status) ? 1 : 0;
+        adjustRecruiter(recruiterId, delta);
+    }
+
+    public void jobStatusChanged(Long recruiterId, String from, String to) {
+        long[] delta = new long[COUNTERS];
+        move(delta, "active".equals(from) ? ACTIVE_JOBS : -1, "active".equals(to) ? ACTIVE_JOBS : -1);
+        adjustRecruiter(recruiterId, delta);
+    }
+
+    public void jobDeleted(Long recruiterId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_JOBS] = -1;
+        delta[ACTIVE_JOBS] = "active".equals(status) ? -1 : 0;
+        adjustRecruiter(recruiterId, delta);
+    }
+
+    /**
+     * @param firstForRecruiter whether this is the candidate's first application to any of the recruiter's jobs
+     */
+    public void applicationSubmitted(Long recruiterId, String status, boolean firstForRecruiter) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_APPLICATIONS] = 1;
+        delta[TOTAL_CANDIDATES] = firstForRecruiter ? 1 : 0;
+        move(delta, -1, applicationBucket(status));
+        adjustRecruiter(recruiterId, delta);
+    }
+
+    public void applicationStatusChanged(Long recruiterId, String from, String to) {
+        long[] delta = new long[COUNTERS];
+        move(delta, applicationBucket(from), applicationBucket(to));
+        adjustRecruiter(recruiterId, delta);
+    }
+
+    // Counselor write paths
+
+    public void sessionCreated(Long counselorId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_SESSIONS] = 1;
+        move(delta, -1, "scheduled".equals(status) ? SCHEDULED_SESSIONS : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void sessionStatusChanged(Long counselorId, String from, String to) {
+        long[] delta = new long[COUNTERS];
+        move(delta, "scheduled".equals(from) ? SCHEDULED_SESSIONS : -1, "scheduled".equals(to) ? SCHEDULED_SESSIONS : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void sessionDeleted(Long counselorId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_SESSIONS] = -1;
+        move(delta, "scheduled".equals(status) ? SCHEDULED_SESSIONS : -1, -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void careerPlanCreated(Long counselorId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_CAREER_PLANS] = 1;
+        move(delta, -1, "active".equals(status) ? ACTIVE_CAREER_PLANS : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void careerPlanStatusChanged(Long counselorId, String from, String to) {
+        long[] delta = new long[COUNTERS];
+        move(delta, "active".equals(from) ? ACTIVE_CAREER_PLANS : -1, "active".equals(to) ? ACTIVE_CAREER_PLANS : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void careerPlanDeleted(Long counselorId, String status) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_CAREER_PLANS] = -1;
+        move(delta, "active".equals(status) ? ACTIVE_CAREER_PLANS : -1, -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void resourceCreated(Long counselorId, Boolean featured) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_RESOURCES] = 1;
+        move(delta, -1, Boolean.TRUE.equals(featured) ? FEATURED_RESOURCES : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void resourceFeaturedChanged(Long counselorId, Boolean from, Boolean to) {
+        long[] delta = new long[COUNTERS];
+        move(delta, Boolean.TRUE.equals(from) ? FEATURED_RESOURCES : -1, Boolean.TRUE.equals(to) ? FEATURED_RESOURCES : -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    public void resourceDeleted(Long counselorId, Boolean featured) {
+        long[] delta = new long[COUNTERS];
+        delta[TOTAL_RESOURCES] = -1;
+        move(delta, Boolean.TRUE.equals(featured) ? FEATURED_RESOURCES : -1, -1);
+        adjustCounselor(counselorId, delta);
+    }
+
+    // Reads
+
+    /**
+     * Counter row of a recruiter, seeded from the source tables the first time it is asked for
+     */
+    public RecruiterStats getRecruiterStats(Long recruiterId) {
+        RecruiterStats stats = recruiterStatsRepository.findById(recruiterId).orElse(null);
+        if (stats != null) {
+            return stats;
+        }
+        long[] counts = countRecruiter(recruiterId);
+        if (seedRecruiter(recruiterId, counts) == 0) {
+            // Another request or write seeded it first; its row is authoritative
+            return recruiterStatsRepository.findById(recruiterId).orElseThrow(() -> new RuntimeException("Recruiter stats not found"));
+        }
+        stats = new RecruiterStats(recruiterId);
+        setRecruiterCounts(stats, counts);
+        return stats;
+    }
+
+    /**
+     * Counter row of a counselor, seeded from the source tables the first time it is asked for
+     */
+    public CounselorStats getCounselorStats(Long counselorId) {
+        CounselorStats stats = counselorStatsRepository.findById(counselorId).orElse(null);
+        if (stats != null) {
+            return stats;
+        }
+        long[] counts = countCounselor(counselorId);
+        if (seedCounselor(counselorId, counts) == 0) {
+            return counselorStatsRepository.findById(counselorId).orElseThrow(() -> new RuntimeException("Counselor stats not found"));
+        }
+        stats = new CounselorStats(counselorId);
+        setCounselorCounts(stats, counts);
+        return stats;
+    }
+
+    /**
+     * Recompute every counter row from the source tables, log the rows that drifted and correct them.
+     * Each row is checked in its own short transaction under a row lock: deltas of concurrent writes wait
+     * for the correction instead of being overwritten by it, and no lock outlives its row.
+     */
+    @Scheduled(cron = "${dashboards.stats.reconcile-cron:0 0 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        int recruiterRows = 0;
+        int recruiterDrifted = 0;
+        Long afterId = 0L;
+        List<Long> recruiterIds;
+        while (!(recruiterIds = recruiterStatsRepository.findIdsAfter(afterId, PageRequest.of(0, RECONCILE_BATCH_SIZE))).isEmpty()) {
+            for (Long recruiterId : recruiterIds) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileRecruiter(recruiterId)))) {
+                    recruiterDrifted++;
+                }
+                recruiterRows++;
+            }
+            afterId = recruiterIds.get(recruiterIds.size() - 1);
+        }
+
+        int counselorRows = 0;
+        int counselorDrifted = 0;
+        afterId = 0L;
+        List<Long> counselorIds;
+        while (!(counselorIds = counselorStatsRepository.findIdsAfter(afterId, PageRequest.of(0, RECONCILE_BATCH_SIZE))).isEmpty()) {
+            for (Long counselorId : counselorIds) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileCounselor(counselorId)))) {
+                    counselorDrifted++;
+                }
+                counselorRows++;
+            }
+            afterId = counselorIds.get(counselorIds.size() - 1);
+        }
+
+        log.info("Reconciled dashboard counters: {} of {} recruiter rows and {} of {} counselor rows drifted",
+                recruiterDrifted, recruiterRows, counselorDrifted, counselorRows);
+    }
+
+    /**
+     * Lock the row, then count: writers that already adjusted it have committed, and later ones see the corrected row
+     */
+    private boolean reconcileRecruiter(Long recruiterId) {
+        RecruiterStats stats = recruiterStatsRepository.findForUpdate(recruiterId).orElse(null);
+        if (stats == null) {
+            return false;
+        }
+        long[] stored = recruiterCounts(stats);
+        long[] actual = countRecruiter(recruiterId);
+        if (Arrays.equals(stored, actual)) {
+            return false;
+        }
+        log.warn("recruiter_stats drift for recruiter {}: stored {}, actual {}",
+                recruiterId, Arrays.toString(stored), Arrays.toString(actual));
+        setRecruiterCounts(stats, actual);
+        statsCache.invalidateRecruiter(recruiterId);
+        return true;
+    }
+
+    private boolean reconcileCounselor(Long counselorId) {
+        CounselorStats stats = counselorStatsRepository.findForUpdate(counselorId).orElse(null);
+        if (stats == null) {
+            return false;
+        }
+        long[] stored = counselorCounts(stats);
+        long[] actual = countCounselor(counselorId);
+        if (Arrays.equals(stored, actual)) {
+            return false;
+        }
+        log.warn("counselor_stats drift for counselor {}: stored {}, actual {}",
+                counselorId, Arrays.toString(stored), Arrays.toString(actual));
+        setCounselorCounts(stats, actual);
+        statsCache.invalidateCounselor(counselorId);
+        return true;
+    }
+
+    private void adjustRecruiter(Long recruiterId, long[] d) {
+        if (isZero(d)) {
+            return;
+        }
+        if (applyRecruiterDelta(recruiterId, d) == 0) {
+            // No row yet. Counted inside this transaction, the seed already includes this write.
+            long[] counts = countRecruiter(recruiterId);
+            if (seedRecruiter(recruiterId, counts) == 0) {
+                // Seeded concurrently from counts that could not see this uncommitted write
+                applyRecruiterDelta(recruiterId, d);
+            }
+        }
+        statsCache.invalidateRecruiter(recruiterId);
+    }
+
+    private void adjustCounselor(Long counselorId, long[] d) {
+        if (isZero(d)) {
+            return;
+        }
+        if (applyCounselorDelta(counselorId, d) == 0) {
+            long[] counts = countCounselor(counselorId);
+            if (seedCounselor(counselorId, counts) == 0) {
+                applyCounselorDelta(counselorId, d);
+            }
+        }
+        statsCache.invalidateCounselor(counselorId);
+    }
+
+    private int applyRecruiterDelta(Long recruiterId, long[] d) {
+        return recruiterStatsRepository.applyDelta(recruiterId, d[TOTAL_JOBS], d[ACTIVE_JOBS], d[TOTAL_APPLICATIONS],
+                d[PENDING_APPLICATIONS], d[SHORTLISTED], d[HIRED], d[REJECTED], d[TOTAL_CANDIDATES]);
+    }
+
+    private int seedRecruiter(Long recruiterId, long[] c) {
+        return recruiterStatsRepository.seed(recruiterId, c[TOTAL_JOBS], c[ACTIVE_JOBS], c[TOTAL_APPLICATIONS],
+                c[PENDING_APPLICATIONS], c[SHORTLISTED], c[HIRED], c[REJECTED], c[TOTAL_CANDIDATES]);
+    }
+
+    private int applyCounselorDelta(Long counselorId, long[] d) {
+        return counselorStatsRepository.applyDelta(counselorId, d[TOTAL_STUDENTS], d[ACTIVE_STUDENTS], d[TOTAL_SESSIONS],
+                d[SCHEDULED_SESSIONS], d[TOTAL_CAREER_PLANS], d[ACTIVE_CAREER_PLANS], d[TOTAL_RESOURCES], d[FEATURED_RESOURCES]);
+    }
+
+    private int seedCounselor(Long counselorId, long[] c) {
+        return counselorStatsRepository.seed(counselorId, c[TOTAL_STUDENTS], c[ACTIVE_STUDENTS], c[TOTAL_SESSIONS],
+                c[SCHEDULED_SESSIONS], c[TOTAL_CAREER_PLANS], c[ACTIVE_CAREER_PLANS], c[TOTAL_RESOURCES], c[FEATURED_RESOURCES]);
+    }
+
+    private long[] countRecruiter(Long recruiterId) {
+        Object[] row = jobRepository.findRecruiterDashboardCounts(recruiterId, LocalDateTime.now()).get(0);
+        long[] counts = new long[COUNTERS];
+        for (int i = 0; i < COUNTERS; i++) {
+            counts[i] = row[i] != null ? ((Number) row[i]).longValue() : 0;
+        }
+        return counts;
+    }
+
+    /**
+     * Counselor counts from one aggregate query over per-status groups, without loading any entities
+     */
+    private long[] countCounselor(Long counselorId) {
+        long[] counts = new long[COUNTERS];
+        for (Object[] row : studentRepository.countCounselorDashboardByStatus(counselorId)) {
+            String kind = (String) row[0];
+            String status = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+            switch (kind) {
+                case "student":
+                    counts[TOTAL_STUDENTS] += count;
+                    counts[ACTIVE_STUDENTS] += "active".equals(status) ? count : 0;
+                    break;
+                case "session":
+                    counts[TOTAL_SESSIONS] += count;
+                    counts[SCHEDULED_SESSIONS] += "scheduled".equals(status) ? count : 0;
+                    break;
+                case "plan":
+                    counts[TOTAL_CAREER_PLANS] += count;
+                    counts[ACTIVE_CAREER_PLANS] += "active".equals(status) ? count : 0;
+                    break;
+                case "resource":
+                    counts[TOTAL_RESOURCES] += count;
+                    counts[FEATURED_RESOURCES] += "featured".equals(status) ? count : 0;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return counts;
+    }
+
+    private static long[] recruiterCounts(RecruiterStats stats) {
+        return new long[]{stats.getTotalJobs(), stats.getActiveJobs(), stats.getTotalApplications(),
+                stats.getPendingApplications(), stats.getShortlisted(), stats.getHired(), stats.getRejected(),
+                stats.getTotalCandidates()};
+    }
+
+    private static void setRecruiterCounts(RecruiterStats stats, long[] counts) {
+        stats.setTotalJobs(counts[TOTAL_JOBS]);
+        stats.setActiveJobs(counts[ACTIVE_JOBS]);
+        stats.setTotalApplications(counts[TOTAL_APPLICATIONS]);
+        stats.setPendingApplications(counts[PENDING_APPLICATIONS]);
+        stats.setShortlisted(counts[SHORTLISTED]);
+        stats.setHired(counts[HIRED]);
+        stats.setRejected(counts[REJECTED]);
+        stats.setTotalCandidates(counts[TOTAL_CANDIDATES]);
+    }
+
+    private static long[] counselorCounts(CounselorStats stats) {
+        return new long[]{stats.getTotalStudents(), stats.getActiveStudents(), stats.getTotalSessions(),
+                stats.getScheduledSessions(), stats.getTotalCareerPlans(), stats.getActiveCareerPlans(),
+                stats.getTotalResources(), stats.getFeaturedResources()};
+    }
+
+    private static void setCounselorCounts(CounselorStats stats, long[] counts) {
+        stats.setTotalStudents(counts[TOTAL_STUDENTS]);
+        stats.setActiveStudents(counts[ACTIVE_STUDENTS]);
+        stats.setTotalSessions(counts[TOTAL_SESSIONS]);
+        stats.setScheduledSessions(counts[SCHEDULED_SESSIONS]);
+        stats.setTotalCareerPlans(counts[TOTAL_CAREER_PLANS]);
+        stats.setActiveCareerPlans(counts[ACTIVE_CAREER_PLANS]);
+        stats.setTotalResources(counts[TOTAL_RESOURCES]);
+        stats.setFeaturedResources(counts[FEATURED_RESOURCES]);
+    }
+
+    // Dashboard bucket of an application status; pending and reviewing both count as pending
+    private static int applicationBucket(String status) {
+        if (status == null) {
+            return -1;
+        }
+        switch (status) {
+            case "pending":
+            case "reviewing":
+                return PENDING_APPLICATIONS;
+            case "shortlisted":
+                return SHORTLISTED;
+            case "hired":
+                return HIRED;
+            case "rejected":
+                return REJECTED;
+            default:
+                return -1;
+        }
+    }
+
+    private static void move(long[] delta, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        if (from >= 0) {
+            delta[from]--;
+        }
+        if (to >= 0) {
+            delta[to]++;
+        }
+    }
+
+    private static boolean isZero(long[] delta) {
+        for (long d : delta) {
+            if (d != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CounselorDashboardStatsResponse;
+import com.example.demo.dto.RecruiterDashboardStatsResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user stale-while-revalidate cache of dashboard stats, which open tabs poll every few seconds.
+ * Fresh entries are served as is; stale ones are served immediately while one background refresh runs.
+ * Concurrent loads of the same user share a single flight. Writes that change the counts drop the entry.
+ * Past max-entries users, the least recently read entry is evicted.
+ */
+@Component
+public class DashboardStatsCache {
+
+    private static final String RECRUITER = "recruiter:";
+    private static final String COUNSELOR = "counselor:";
+
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+
+    private final Map<String, CachedStats> entries;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public DashboardStatsCache(@Value("${dashboards.cache.ttl-ms:5000}") long ttlMillis,
+                               @Value("${dashboards.cache.max-stale-ms:60000}") long maxStaleMillis,
+                               @Value("${dashboards.cache.max-entries:10000}") int maxEntries,
+                               @Qualifier("dashboardRefreshExecutor") Executor refreshExecutor,
+                               MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, maxStaleMillis));
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStats> eldest) {
+                return size() > DashboardStatsCache.this.maxEntries;
+            }
+        };
+
+        FunctionCounter.builder("dashboards.cache.hits", hits, AtomicLong::get)
+                .description("Dashboard stats served fresh from cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("dashboards.cache.stale-hits", staleHits, AtomicLong::get)
+                .description("Dashboard stats served stale while refreshing")
+                .register(meterRegistry);
+        FunctionCounter.builder("dashboards.cache.misses", misses, AtomicLong::get)
+                .description("Dashboard stats loaded synchronously")
+                .register(meterRegistry);
+    }
+
+    public RecruiterDashboardStatsResponse getRecruiterStats(Long recruiterId, Supplier<RecruiterDashboardStatsResponse> loader) {
+        return get(RECRUITER + recruiterId, loader);
+    }
+
+    public CounselorDashboardStatsResponse getCounselorStats(Long counselorId, Supplier<CounselorDashboardStatsResponse> loader) {
+        return get(COUNSELOR + counselorId, loader);
+    }
+
+    public void invalidateRecruiter(Long recruiterId) {
+        invalidateAfterCommit(RECRUITER + recruiterId);
+    }
+
+    public void invalidateCounselor(Long counselorId) {
+        invalidateAfterCommit(COUNSELOR + counselorId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Supplier<T> loader) {
+        CachedStats cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        long age = cached != null ? System.nanoTime() - cached.loadedAt : Long.MAX_VALUE;
+        if (age < ttlNanos) {
+            hits.incrementAndGet();
+            return (T) cached.value;
+        }
+        if (age < maxStaleNanos) {
+            staleHits.incrementAndGet();
+            refreshInBackground(key, loader, cached.value);
+            return (T) cached.value;
+        }
+
+        misses.incrementAndGet();
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return (T) join(existing);
+        }
+        load(key, loader, flight);
+        return (T) join(flight);
+    }
+
+    private void refreshInBackground(String key, Supplier<?> loader, Object staleValue) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> load(key, loader, flight));
+        } catch (RejectedExecutionException e) {
+            // Refresh queue is full; keep serving the stale value and retry on a later request
+            inFlight.remove(key, flight);
+            flight.complete(staleValue);
+        }
+    }
+
+    private void load(String key, Supplier<?> loader, CompletableFuture<Object> flight) {
+        try {
+            Object value = loader.get();
+            // An invalidation while loading unregisters the flight, and its result must not be cached
+            if (inFlight.remove(key, flight)) {
+                synchronized (entries) {
+                    entries.put(key, new CachedStats(value, System.nanoTime()));
+                }
+            }
+            flight.complete(value);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+    }
+
+    private void invalidateAfterCommit(String key) {
+        // Dropping it before commit would let a concurrent refresh cache the pre-write counts again
+        AfterCommit.run(() -> invalidate(key));
+    }
+
+    private void invalidate(String key) {
+        inFlight.remove(key);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class CachedStats {
+        private final Object value;
+        private final long loadedAt;
+
+        private CachedStats(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -22,13 +22,16 @@ public class InterviewService {
     private final InterviewRepository interviewRepository;
     private final JobApplicationRepository applicationRepository;
     private final UserRepository userRepository;
+    private final DashboardStatsCache statsCache;
 
     public InterviewService(InterviewRepository interviewRepository,
                             JobApplicationRepository applicationRepository,
-                            UserRepository userRepository) {
+                            UserRepository userRepository,
+                            DashboardStatsCache statsCache) {
         this.interviewRepository = interviewRepository;
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
+        this.statsCache = statsCache;
     }
 
     public InterviewResponse scheduleInterview(Long recruiterId, InterviewRequest request) {
@@ -54,6 +57,8 @@ public class InterviewService {
         interview.setStatus("scheduled");
 
         interview = interviewRepository.save(interview);
+        // Upcoming interviews on the dashboard
+        statsCache.invalidateRecruiter(recruiterId);
         return mapToResponse(interview);
     }
 
@@ -73,6 +78,7 @@ public class InterviewService {
         interview.setNotes(request.getNotes());
 
         interview = interviewRepository.save(interview);
+        statsCache.invalidateRecruiter(recruiterId);
         return mapToResponse(interview);
     }
 
@@ -85,6 +91,7 @@ public class InterviewService {
         }
 
         interviewRepository.delete(interview);
+        statsCache.invalidateRecruiter(recruiterId);
     }
 
     public List<InterviewResponse> getInterviews(Long recruiterId) {
@@ -128,6 +135,7 @@ public class InterviewService {
         }
 
         interview = interviewRepository.save(interview);
+        statsCache.invalidateRecruiter(recruiterId);
         return mapToResponse(interview);
     }
 
@@ -0,0 +1,295 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.JobApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Candidates who applied here also applied to": for every job, the top-N other jobs sharing the most applicants.
+ * Rebuilt from job_applications by a background batch and patched as new applications come in.
+ * Neighbours live in flat primitive arrays, about 12 bytes per slot, so 100k jobs x 20 neighbours is ~24MB.
+ */
+@Component
+public class JobCoApplicationIndex {
+
+    private static final int CANDIDATE_BATCH_SIZE = 1000;
+
+    // Pairs grow quadratically with a candidate's applications, and someone applying everywhere says little
+    private static final int MAX_APPLICATIONS_PER_CANDIDATE = 100;
+
+    private final JobApplicationRepository applicationRepository;
+    private final int neighbourCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NeighbourTable table;
+
+    // Applications recorded while a rebuild is running, replayed onto the new table before it goes live
+    private final Queue<long[]> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding = false;
+
+    public JobCoApplicationIndex(JobApplicationRepository applicationRepository,
+                                 @Value("${jobs.recommendations.neighbours:20}") int neighbourCount) {
+        this.applicationRepository = applicationRepository;
+        this.neighbourCount = neighbourCount;
+        this.table = new NeighbourTable(neighbourCount, 16);
+    }
+
+    /**
+     * Recount co-applications for every pair of jobs, one batch of candidates at a time
+     */
+    @Scheduled(fixedDelayString = "${jobs.recommendations.refresh-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            Map<Long, LongIntHashMap> counts = new HashMap<>();
+            Long afterId = 0L;
+            while (true) {
+                List<Long> candidateIds = applicationRepository.findCandidateIdsAfter(afterId,
+                        PageRequest.of(0, CANDIDATE_BATCH_SIZE));
+                if (candidateIds.isEmpty()) {
+                    break;
+                }
+                countPairs(applicationRepository.findCandidateJobIdsByCandidateIdIn(candidateIds), counts);
+                afterId = candidateIds.get(candidateIds.size() - 1);
+            }
+
+            NeighbourTable built = new NeighbourTable(neighbourCount, counts.size());
+            for (Map.Entry<Long, LongIntHashMap> entry : counts.entrySet()) {
+                long jobId = entry.getKey();
+                entry.getValue().forEach((neighbourId, count) -> built.offer(jobId, neighbourId, count));
+            }
+
+            lock.writeLock().lock();
+            try {
+                table = built;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        long[] pending;
+        while ((pending = pendingDuringRebuild.poll()) != null) {
+            recordApplication(pending[0], pending[1]);
+        }
+    }
+
+    /**
+     * Fold a new application into the neighbour lists of the applied job and the candidate's other jobs.
+     * Pair counts are re-read exactly, so a neighbour that was trimmed earlier can climb back in.
+     */
+    public void recordApplication(Long candidateId, Long jobId) {
+        if (rebuilding) {
+            pendingDuringRebuild.add(new long[]{candidateId, jobId});
+        }
+
+        List<Long> otherJobIds = new ArrayList<>();
+        for (Long otherId : applicationRepository.findJobIdsByCandidateId(candidateId)) {
+            if (otherJobIds.size() >= MAX_APPLICATIONS_PER_CANDIDATE) {
+                break;
+            }
+            if (!otherId.equals(jobId)) {
+                otherJobIds.add(otherId);
+            }
+        }
+        if (otherJobIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> coCounts = applicationRepository.countCoApplications(jobId, otherJobIds);
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : coCounts) {
+                long otherId = (Long) row[0];
+                int count = ((Long) row[1]).intValue();
+                table.offer(jobId, otherId, count);
+                table.offer(otherId, jobId, count);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs most often co-applied with the candidate's own applications, strongest first.
+     * Jobs the candidate already applied to are left out.
+     */
+    public List<Long> recommend(Long candidateId, int limit) {
+        List<Long> appliedJobIds = applicationRepository.findJobIdsByCandidateId(candidateId);
+        if (appliedJobIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        LongIntHashMap applied = new LongIntHashMap(appliedJobIds.size());
+        for (Long jobId : appliedJobIds) {
+            applied.put(jobId, 1);
+        }
+
+        LongIntHashMap scores = new LongIntHashMap();
+        lock.readLock().lock();
+        try {
+            // Most recent applications first, capped like the batch
+            for (int i = 0; i < Math.min(appliedJobIds.size(), MAX_APPLICATIONS_PER_CANDIDATE); i++) {
+                table.forEachNeighbour(appliedJobIds.get(i), (neighbourId, count) -> {
+                    if (!applied.containsKey(neighbourId)) {
+                        scores.addTo(neighbourId, count);
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<long[]> ranked = new ArrayList<>(scores.size());
+        scores.forEach((neighbourId, score) -> ranked.add(new long[]{neighbourId, score}));
+        ranked.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+
+        List<Long> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && result.size() < limit; i++) {
+            result.add(ranked.get(i)[0]);
+        }
+        return result;
+    }
+
+    /**
+     * Count every pair of jobs within each candidate's applications. Rows are ordered by candidate, newest first.
+     */
+    private static void countPairs(List<Object[]> rows, Map<Long, LongIntHashMap> counts) {
+        List<Long> jobIds = new ArrayList<>();
+        Long currentCandidate = null;
+        for (Object[] row : rows) {
+            Long candidateId = (Long) row[0];
+            if (!candidateId.equals(currentCandidate)) {
+                countCandidatePairs(jobIds, counts);
+                jobIds.clear();
+                currentCandidate = candidateId;
+            }
+            if (jobIds.size() < MAX_APPLICATIONS_PER_CANDIDATE) {
+                jobIds.add((Long) row[1]);
+            }
+        }
+        countCandidatePairs(jobIds, counts);
+    }
+
+    private static void countCandidatePairs(List<Long> jobIds, Map<Long, LongIntHashMap> counts) {
+        for (int i = 0; i < jobIds.size(); i++) {
+            LongIntHashMap neighbours = counts.computeIfAbsent(jobIds.get(i), id -> new LongIntHashMap());
+            for (int j = 0; j < jobIds.size(); j++) {
+                if (i != j) {
+                    neighbours.addTo(jobIds.get(j), 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Row per job in flat arrays: slots [row * n, row * n + size) hold its neighbours, highest count first
+     */
+    private static final class NeighbourTable {
+        private final int n;
+        private final LongIntHashMap rows;
+        private long[] neighbourIds;
+        private int[] counts;
+        private int[] sizes;
+        private int rowCount;
+
+        private NeighbourTable(int n, int expectedJobs) {
+            this.n = n;
+            int capacity = Math.max(16, expectedJobs);
+            this.rows = new LongIntHashMap(capacity);
+            this.neighbourIds = new long[capacity * n];
+            this.counts = new int[capacity * n];
+            this.sizes = new int[capacity];
+        }
+
+        void forEachNeighbour(long jobId, LongIntHashMap.Visitor visitor) {
+            int row = rows.get(jobId, -1);
+            if (row < 0) {
+                return;
+            }
+            int base = row * n;
+            for (int i = 0; i < sizes[row]; i++) {
+                visitor.accept(neighbourIds[base + i], counts[base + i]);
+            }
+        }
+
+        /**
+         * Set the co-application count of a neighbour, keeping only the n strongest
+         */
+        void offer(long jobId, long neighbourId, int count) {
+            int row = rowOf(jobId);
+            int base = row * n;
+            int size = sizes[row];
+
+            int pos = -1;
+            for (int i = 0; i < size; i++) {
+                if (neighbourIds[base + i] == neighbourId) {
+                    pos = i;
+                    break;
+                }
+            }
+            if (pos < 0) {
+                if (size == n) {
+                    if (count <= counts[base + n - 1]) {
+                        return;
+                    }
+                    pos = n - 1;
+                } else {
+                    pos = size;
+                    sizes[row] = ++size;
+                }
+                neighbourIds[base + pos] = neighbourId;
+            }
+            counts[base + pos] = count;
+
+            // Only this slot changed, so one insertion pass in either direction restores the order
+            while (pos > 0 && counts[base + pos - 1] < counts[base + pos]) {
+                swap(base + pos - 1, base + pos);
+                pos--;
+            }
+            while (pos < size - 1 && counts[base + pos + 1] > counts[base + pos]) {
+                swap(base + pos, base + pos + 1);
+                pos++;
+            }
+        }
+
+        private int rowOf(long jobId) {
+            int row = rows.get(jobId, -1);
+            if (row >= 0) {
+                return row;
+            }
+            if (rowCount == sizes.length) {
+                int capacity = sizes.length + (sizes.length >> 1);
+                neighbourIds = Arrays.copyOf(neighbourIds, capacity * n);
+                counts = Arrays.copyOf(counts, capacity * n);
+                sizes = Arrays.copyOf(sizes, capacity);
+            }
+            row = rowCount++;
+            rows.put(jobId, row);
+            return row;
+        }
+
+        private void swap(int a, int b) {
+            long id = neighbourIds[a];
+            neighbourIds[a] = neighbourIds[b];
+            neighbourIds[b] = id;
+            int count = counts[a];
+            counts[a] = counts[b];
+            counts[b] = count;
+        }
+    }
+}
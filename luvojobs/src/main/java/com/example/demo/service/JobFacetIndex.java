@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index over active jobs: one bitset per facet value, so facet counts are AND + popcount.
+ * Kept in sync by the recruiter write paths.
+ */
+@Component
+public class JobFacetIndex {
+
+    public static final String TYPE = "type";
+    public static final String EXPERIENCE_LEVEL = "experienceLevel";
+    public static final String CAREER_TRACK = "careerTrack";
+    public static final String LOCATION = "location";
+
+    private static final String[] DIMENSIONS = {TYPE, EXPERIENCE_LEVEL, CAREER_TRACK, LOCATION};
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // dimension -> facet value -> slots of jobs carrying that value
+    private final Map<String, Map<String, BitSet>> bitmaps = new HashMap<>();
+
+    // Active jobs are addressed by dense slots so bitsets stay compact; freed slots are reused
+    private final Map<Long, Integer> slotByJob = new HashMap<>();
+    private final Map<Integer, List<String[]>> valuesBySlot = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private int nextSlot = 0;
+
+    public JobFacetIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+        for (String dimension : DIMENSIONS) {
+            bitmaps.put(dimension, new HashMap<>());
+        }
+    }
+
+    /**
+     * Rebuild the bitmaps from the active jobs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Job> jobs = jobRepository.findByStatus("active", Pageable.unpaged()).getContent();
+
+        lock.writeLock().lock();
+        try {
+            bitmaps.values().forEach(Map::clear);
+            slotByJob.clear();
+            valuesBySlot.clear();
+            freeSlots.clear();
+            live.clear();
+            nextSlot = 0;
+            for (Job job : jobs) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index a job. Jobs that are no longer active are dropped.
+     */
+    public void index(Job job) {
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            if ("active".equals(job.getStatus())) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Count jobs per facet value.
+     * Each dimension is counted with every other selected filter applied but not its own,
+     * so the UI can show how many results each alternative chip would give.
+     *
+     * @param restrictTo job ids the counts are limited to (e.g. search matches), or null for all active jobs
+     * @param selected   selected filter value per dimension; null or "all" means unselected
+     */
+    public Map<String, Map<String, Integer>> count(Collection<Long> restrictTo, Map<String, String> selected) {
+        lock.readLock().lock();
+        try {
+            BitSet base;
+            if (restrictTo == null) {
+                base = (BitSet) live.clone();
+            } else {
+                base = new BitSet();
+                for (Long jobId : restrictTo) {
+                    Integer slot = slotByJob.get(jobId);
+                    if (slot != null) {
+                        base.set(slot);
+                    }
+                }
+            }
+
+            Map<String, BitSet> selectedBits = new HashMap<>();
+            for (String dimension : DIMENSIONS) {
+                String value = selected.get(dimension);
+                if (value != null && !value.equals("all")) {
+                    BitSet bits = bitmaps.get(dimension).get(value);
+                    selectedBits.put(dimension, bits != null ? bits : new BitSet());
+                }
+            }
+
+            Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+            for (String dimension : DIMENSIONS) {
+                BitSet mask = (BitSet) base.clone();
+                selectedBits.forEach((other, bits) -> {
+                    if (!other.equals(dimension)) {
+                        mask.and(bits);
+                    }
+                });
+
+                List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+                for (Map.Entry<String, BitSet> entry : bitmaps.get(dimension).entrySet()) {
+                    BitSet hits = (BitSet) entry.getValue().clone();
+                    hits.and(mask);
+                    int cardinality = hits.cardinality();
+                    if (cardinality > 0) {
+                        counts.add(Map.entry(entry.getKey(), cardinality));
+                    }
+                }
+                counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+                Map<String, Integer> ordered = new LinkedHashMap<>();
+                counts.forEach(e -> ordered.put(e.getKey(), e.getValue()));
+                result.put(dimension, ordered);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Job job) {
+        int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+
+        List<String[]> values = new ArrayList<>();
+        values.add(new String[]{TYPE, job.getType()});
+        values.add(new String[]{EXPERIENCE_LEVEL, job.getExperienceLevel()});
+        values.add(new String[]{CAREER_TRACK, job.getCareerTrack()});
+        values.add(new String[]{LOCATION, job.getLocation()});
+        // Remote positions also count towards the "remote" location bucket used by the filter
+        if (job.getLocation() != null && job.getLocation().toLowerCase(Locale.ROOT).contains("remote")) {
+            values.add(new String[]{LOCATION, "remote"});
+        }
+        values.removeIf(pair -> pair[1] == null);
+
+        for (String[] pair : values) {
+            bitmaps.get(pair[0]).computeIfAbsent(pair[1], v -> new BitSet()).set(slot);
+        }
+        slotByJob.put(job.getId(), slot);
+        valuesBySlot.put(slot, values);
+        live.set(slot);
+    }
+
+    private void unlink(Long jobId) {
+        Integer slot = slotByJob.remove(jobId);
+        if (slot == null) {
+            return;
+        }
+        for (String[] pair : valuesBySlot.remove(slot)) {
+            Map<String, BitSet> dimension = bitmaps.get(pair[0]);
+            BitSet bits = dimension.get(pair[1]);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    dimension.remove(pair[1]);
+                }
+            }
+        }
+        live.clear(slot);
+        freeSlots.push(slot);
+    }
+}
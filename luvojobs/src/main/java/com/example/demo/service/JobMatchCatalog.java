@@ -0,0 +1,207 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compact, session-independent view of active jobs used for candidate matching.
+ * Kept in sync by the recruiter write paths.
+ */
+@Component
+public class JobMatchCatalog {
+
+    private final JobRepository jobRepository;
+    private final SkillDictionary skillDictionary;
+    private final SkillNormalizer skillNormalizer;
+    private final JobTextIndex textIndex;
+
+    private final Map<Long, MatchableJob> jobs = new ConcurrentHashMap<>();
+
+    // Bumped on every change; the array snapshot is rebuilt lazily when it falls behind
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    public JobMatchCatalog(JobRepository jobRepository, SkillDictionary skillDictionary, SkillNormalizer skillNormalizer,
+                           JobTextIndex textIndex) {
+        this.jobRepository = jobRepository;
+        this.skillDictionary = skillDictionary;
+        this.skillNormalizer = skillNormalizer;
+        this.textIndex = textIndex;
+    }
+
+    /**
+     * Rebuild the catalog from the active jobs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Job> activeJobs = jobRepository.findAllWithCanonicalSkillsByStatus("active");
+        Map<Long, List<String>> requirements = new HashMap<>();
+        for (Object[] row : jobRepository.findRequirementsByStatus("active")) {
+            requirements.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<Long, String> texts = new HashMap<>();
+        for (Job job : activeJobs) {
+            texts.put(job.getId(), textOf(job, requirements.getOrDefault(job.getId(), List.of())));
+        }
+        Map<Long, SparseVector> vectors = textIndex.rebuild(texts);
+
+        Map<Long, MatchableJob> active = new ConcurrentHashMap<>();
+        for (Job job : activeJobs) {
+            active.put(job.getId(), toMatchable(job, vectors.get(job.getId())));
+        }
+        jobs.keySet().retainAll(active.keySet());
+        jobs.putAll(active);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Index or re-index a job. Jobs that are no longer active are dropped.
+     */
+    public void index(Job job) {
+        if ("active".equals(job.getStatus())) {
+            SparseVector description = textIndex.index(job.getId(), textOf(job, job.getRequirements()));
+            jobs.put(job.getId(), toMatchable(job, description));
+        } else {
+            jobs.remove(job.getId());
+            textIndex.remove(job.getId());
+        }
+        version.incrementAndGet();
+    }
+
+    public void remove(Long jobId) {
+        jobs.remove(jobId);
+        textIndex.remove(jobId);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Matching view of a job, built on the fly if the catalog does not hold it yet
+     */
+    public MatchableJob get(Job job) {
+        MatchableJob matchable = jobs.get(job.getId());
+        return matchable != null
+                ? matchable
+                : toMatchable(job, textIndex.vectorize(textOf(job, job.getRequirements())));
+    }
+
+    /**
+     * Live, read-only view over the active jobs, weakly consistent with concurrent updates
+     */
+    public Collection<MatchableJob> all() {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+
+    /**
+     * Immutable random-access copy of the active jobs, shared until the catalog changes
+     */
+    public List<MatchableJob> snapshot() {
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached.version != current) {
+            cached = new Snapshot(current, List.copyOf(jobs.values()));
+            snapshot = cached;
+        }
+        return cached.jobs;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    private MatchableJob toMatchable(Job job, SparseVector description) {
+        return new MatchableJob(
+                job.getId(),
+                job.getCareerTrack() != null ? job.getCareerTrack().toLowerCase(Locale.ROOT) : "",
+                job.getExperienceLevel() != null ? job.getExperienceLevel().toLowerCase(Locale.ROOT) : "",
+                skillDictionary.encode(canonicalSkills(job)),
+                description != null ? description : SparseVector.EMPTY
+        );
+    }
+
+    private static String textOf(Job job, Collection<String> requirements) {
+        StringBuilder text = new StringBuilder();
+        text.append(job.getTitle()).append('\n').append(job.getDescription());
+        if (requirements != null) {
+            for (String requirement : requirements) {
+                text.append('\n').append(requirement);
+            }
+        }
+        return text.toString();
+    }
+
+    private Collection<String> canonicalSkills(Job job) {
+        // Jobs saved before canonical skills were stored are normalized on the fly until their next update
+        if (job.getCanonicalSkills().isEmpty() && job.getRequiredSkills() != null && !job.getRequiredSkills().isEmpty()) {
+            return skillNormalizer.normalizeAll(job.getRequiredSkills());
+        }
+        return job.getCanonicalSkills();
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<MatchableJob> jobs;
+
+        private Snapshot(long version, List<MatchableJob> jobs) {
+            this.version = version;
+            this.jobs = jobs;
+        }
+    }
+
+    /**
+     * Immutable matching attributes of one active job. The skill bitset must not be modified.
+     */
+    public static final class MatchableJob {
+        private final Long id;
+        private final String careerTrack;
+        private final String experienceLevel;
+        private final BitSet skills;
+        private final SparseVector description;
+
+        MatchableJob(Long id, String careerTrack, String experienceLevel, BitSet skills, SparseVector description) {
+            this.id = id;
+            this.careerTrack = careerTrack;
+            this.experienceLevel = experienceLevel;
+            this.skills = skills;
+            this.description = description;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getCareerTrack() {
+            return careerTrack;
+        }
+
+        public String getExperienceLevel() {
+            return experienceLevel;
+        }
+
+        public BitSet getSkills() {
+            return skills;
+        }
+
+        public SparseVector getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.CandidateProfile;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobMatchScoreRepository;
+import com.example.demo.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the job_match_scores table. A profile's rows are recomputed when the profile is saved,
+ * a job's rows in the background after the job is written, so reading matches is a single indexed query.
+ *
+ * Stored scores are approximate: their description component uses the TF-IDF weights of the moment they
+ * were computed, and document frequencies drift as jobs come and go. A row is only rescored when its
+ * job or profile is next written, so rankings from the table can differ slightly from a live ranking.
+ */
+@Service
+@Transactional
+public class JobMatchScoreService {
+
+    private static final int PROFILE_BATCH_SIZE = 500;
+
+    private final JobMatchScoreRepository scoreRepository;
+    private final CandidateProfileRepository profileRepository;
+    private final JobRepository jobRepository;
+    private final JobMatchCatalog matchCatalog;
+    private final JobMatchScorer matchScorer;
+    private final CandidateMatchIndex candidateIndex;
+
+    @Value("${jobs.matching.materialized:true}")
+    private boolean enabled;
+
+    public JobMatchScoreService(JobMatchScoreRepository scoreRepository, CandidateProfileRepository profileRepository,
+                                JobRepository jobRepository, JobMatchCatalog matchCatalog, JobMatchScorer matchScorer,
+                                CandidateMatchIndex candidateIndex) {
+        this.scoreRepository = scoreRepository;
+        this.profileRepository = profileRepository;
+        this.jobRepository = jobRepository;
+        this.matchCatalog = matchCatalog;
+        this.matchScorer = matchScorer;
+        this.candidateIndex = candidateIndex;
+    }
+
+    /**
+     * Page of scored matches, best first, or null when the table cannot serve it (disabled, or the
+     * profile's scores were never materialized). Jobs scoring zero are not stored, so a short or empty
+     * page means there are no further matches.
+     */
+    @Transactional(readOnly = true)
+    public List<JobMatchScorer.ScoredMatch> findRanked(CandidateProfile profile, Pageable pageable) {
+        if (!enabled || profile.getMatchScoresComputedAt() == null) {
+            return null;
+        }
+        List<Object[]> rows = scoreRepository.findRankedScores(profile.getId(), pageable);
+        List<JobMatchScorer.ScoredMatch> ranked = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ranked.add(new JobMatchScorer.ScoredMatch((Long) row[0], (Integer) row[1]));
+        }
+        return ranked;
+    }
+
+    /**
+     * Number of stored matches of a profile, i.e. the jobs it scores above zero against
+     */
+    @Transactional(readOnly = true)
+    public long countRanked(CandidateProfile profile) {
+        return scoreRepository.countByProfileId(profile.getId());
+    }
+
+    /**
+     * Recompute the stored scores of one job as it is now; a deleted job just loses its rows
+     */
+    public void refreshJob(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            removeJob(jobId);
+            return;
+        }
+        refreshJob(job);
+    }
+
+    /**
+     * Recompute the stored scores of one job against every materialized profile
+     */
+    public void refreshJob(Job job) {
+        if (!enabled) {
+            return;
+        }
+        scoreRepository.deleteByJobId(job.getId());
+        if (!"active".equals(job.getStatus())) {
+            return;
+        }
+
+        JobMatchCatalog.MatchableJob matchable = matchCatalog.get(job);
+        Long afterId = 0L;
+        List<Long> profileIds;
+        while (!(profileIds = profileRepository.findMaterializedIdsAfter(afterId, PageRequest.of(0, PROFILE_BATCH_SIZE))).isEmpty()) {
+            StringBuilder ids = new StringBuilder();
+            StringBuilder scores = new StringBuilder();
+            for (JobMatchScorer.MatchableCandidate candidate : candidateIndex.loadCandidates(profileIds)) {
+                int score = matchScorer.score(matchable, candidate);
+                if (score > 0) {
+                    append(ids, candidate.getProfileId());
+                    append(scores, score);
+                }
+            }
+            if (ids.length() > 0) {
+                scoreRepository.upsertForJob(job.getId(), ids.toString(), scores.toString());
+            }
+            afterId = profileIds.get(profileIds.size() - 1);
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        if (enabled) {
+            scoreRepository.deleteByJobId(jobId);
+        }
+    }
+
+    public void refreshProfile(Long profileId) {
+        profileRepository.findById(profileId)
+                .ifPresent(profile -> refreshProfile(profile, matchScorer.candidateOf(profile)));
+    }
+
+    /**
+     * Recompute every stored score of a profile against the active jobs
+     */
+    public void refreshProfile(CandidateProfile profile, JobMatchScorer.MatchableCandidate candidate) {
+        if (!enabled) {
+            return;
+        }
+        scoreRepository.deleteByProfileId(profile.getId());
+
+        StringBuilder jobIds = new StringBuilder();
+        StringBuilder scores = new StringBuilder();
+        for (JobMatchCatalog.MatchableJob job : matchCatalog.all()) {
+            int score = matchScorer.score(job, candidate);
+            if (score > 0) {
+                append(jobIds, job.getId());
+                append(scores, score);
+            }
+        }
+        if (jobIds.length() > 0) {
+            scoreRepository.upsertForProfile(profile.getId(), jobIds.toString(), scores.toString());
+        }
+        profile.setMatchScoresComputedAt(LocalDateTime.now());
+    }
+
+    private static void append(StringBuilder csv, long value) {
+        if (csv.length() > 0) {
+            csv.append(',');
+        }
+        csv.append(value);
+    }
+}
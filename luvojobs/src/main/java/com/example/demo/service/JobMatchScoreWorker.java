@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Recomputes job_match_scores rows off the request thread, once the write that invalidated them has committed.
+ * Repeated requests for the same job or profile while one is queued collapse into a single refresh.
+ */
+@Component
+public class JobMatchScoreWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(JobMatchScoreWorker.class);
+
+    private final JobMatchScoreService scoreService;
+    private final Executor executor;
+
+    private final Set<Long> pendingJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingProfiles = ConcurrentHashMap.newKeySet();
+
+    public JobMatchScoreWorker(JobMatchScoreService scoreService,
+                               @Qualifier("matchScoreRefreshExecutor") Executor executor) {
+        this.scoreService = scoreService;
+        this.executor = executor;
+    }
+
+    public void refreshJob(Long jobId) {
+        AfterCommit.run(() -> {
+            if (pendingJobs.add(jobId)) {
+                executor.execute(() -> {
+                    // Leave the queue before reading, so a write committed during the refresh queues another one
+                    pendingJobs.remove(jobId);
+                    run(() -> scoreService.refreshJob(jobId), "job", jobId);
+                });
+            }
+        });
+    }
+
+    public void refreshProfile(Long profileId) {
+        AfterCommit.run(() -> {
+            if (pendingProfiles.add(profileId)) {
+                executor.execute(() -> {
+                    pendingProfiles.remove(profileId);
+                    run(() -> scoreService.refreshProfile(profileId), "profile", profileId);
+                });
+            }
+        });
+    }
+
+    private static void run(Runnable refresh, String kind, Long id) {
+        try {
+            refresh.run();
+        } catch (RuntimeException e) {
+            // The stored scores of this one stay as they were until its next write
+            log.warn("Failed to refresh match scores of {} {}", kind, id, e);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.CandidateProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate-job match scoring shared by the live, materialized and recruiter-side matching paths.
+ * Career track is worth 30 points, skills 10 each up to 50, experience level up to 20, plus a
+ * description similarity bonus (TF-IDF cosine of profile text against job text). Totals are capped at 100.
+ */
+@Component
+public class JobMatchScorer {
+
+    // Chunk size below which a fork/join task scores sequentially
+    private static final int LEAF_SIZE = 1024;
+
+    private static final int MAX_SCORE = 100;
+
+    private final SkillDictionary skillDictionary;
+    private final SkillNormalizer skillNormalizer;
+    private final JobTextIndex textIndex;
+    private final ForkJoinPool scoringPool;
+
+    // Catalogs smaller than this are scored on the calling thread
+    @Value("${jobs.matching.parallel-threshold:5000}")
+    private int parallelThreshold;
+
+    // Points for a perfect description match, scaled by cosine similarity. Off by default: the points come on
+    // top of the 100 the other criteria can already reach, so enabling them reorders existing rankings.
+    @Value("${jobs.matching.description-weight:0}")
+    private int descriptionWeight;
+
+    public JobMatchScorer(SkillDictionary skillDictionary, SkillNormalizer skillNormalizer, JobTextIndex textIndex,
+                          ForkJoinPool matchScoringPool) {
+        this.skillDictionary = skillDictionary;
+        this.skillNormalizer = skillNormalizer;
+        this.textIndex = textIndex;
+        this.scoringPool = matchScoringPool;
+    }
+
+    /**
+     * Matching view of a candidate profile, detached from the JPA session
+     */
+    public MatchableCandidate candidateOf(CandidateProfile profile) {
+        return candidateOf(
+                profile.getId(),
+                profile.getSkills().stream()
+                        .map(skill -> canonicalName(skill.getCanonicalName(), skill.getName()))
+                        .collect(Collectors.toList()),
+                profile.getPreferredCareerTrack(),
+                profile.getExperienceLevel(),
+                profileText(profile)
+        );
+    }
+
+    /**
+     * Skill names must already be canonical, see {@link #canonicalName(String, String)}
+     */
+    public MatchableCandidate candidateOf(Long profileId, Collection<String> skillNames, String preferredTrack,
+                                          String experienceLevel, String text) {
+        return new MatchableCandidate(
+                profileId,
+                skillDictionary.encode(skillNames),
+                preferredTrack != null ? preferredTrack.toLowerCase() : "",
+                experienceLevel != null ? experienceLevel.toLowerCase() : "",
+                textIndex.vectorize(text)
+        );
+    }
+
+    /**
+     * Free text of a profile compared against job descriptions: target role, projects and work experience
+     */
+    public static String profileText(CandidateProfile profile) {
+        StringBuilder text = new StringBuilder();
+        appendText(text, profile.getTargetRole());
+        profile.getProjects().forEach(project -> {
+            appendText(text, project.getTitle());
+            appendText(text, project.getDescription());
+            appendText(text, project.getTechnologies());
+        });
+        profile.getExperiences().forEach(experience -> {
+            appendText(text, experience.getPosition());
+            appendText(text, experience.getDescription());
+        });
+        return text.toString();
+    }
+
+    public static void appendText(StringBuilder text, String part) {
+        if (part != null && !part.isBlank()) {
+            text.append(part).append('\n');
+        }
+    }
+
+    /**
+     * Stored canonical skill name, or the raw name normalized for skills saved before normalization
+     */
+    public String canonicalName(String canonicalName, String name) {
+        return canonicalName != null ? canonicalName : skillNormalizer.normalize(name);
+    }
+
+    /**
+     * Numeric pass: score only, no strings or lists are allocated. {@link #explain} must agree with it.
+     */
+    public int score(JobMatchCatalog.MatchableJob job, MatchableCandidate candidate) {
+        boolean trackMatch = !candidate.getPreferredTrack().isEmpty() && job.getCareerTrack().equals(candidate.getPreferredTrack());
+        return combine(overlap(job, candidate).cardinality(), trackMatch,
+                experiencePoints(job.getExperienceLevel(), candidate.getExperienceLevel()),
+                descriptionPoints(job, candidate));
+    }
+
+    /**
+     * Total score from its parts: 30 for the career track, 10 per shared skill up to 50,
+     * plus experience and description points, capped at 100
+     */
+    public static int combine(int skillMatches, boolean trackMatch, int experiencePoints, int descriptionPoints) {
+        int score = (trackMatch ? 30 : 0) + Math.min(skillMatches * 10, 50) + experiencePoints + descriptionPoints;
+        return Math.min(score, MAX_SCORE);
+    }
+
+    /**
+     * Description similarity points: the configured weight times the cosine of the two text vectors
+     */
+    public int descriptionPoints(JobMatchCatalog.MatchableJob job, MatchableCandidate candidate) {
+        if (descriptionWeight <= 0 || job.getDescription().isEmpty() || candidate.getDescription().isEmpty()) {
+            return 0;
+        }
+        return Math.round(descriptionWeight * job.getDescription().dot(candidate.getDescription()));
+    }
+
+    /**
+     * Experience level points (0, 10 or 20) of a candidate level against a job level, both lowercase
+     */
+    public static int experiencePoints(String jobExp, String experienceLevel) {
+        if (experienceLevel.isEmpty()) {
+            return 0;
+        }
+        if (jobExp.equals("entry-level") && (experienceLevel.contains("entry") || experienceLevel.contains("student"))) {
+            return 20;
+        } else if (jobExp.equals("junior") && (experienceLevel.contains("junior") || experienceLevel.contains("1-3"))) {
+            return 20;
+        } else if (jobExp.equals("entry-level") || jobExp.equals("junior")) {
+            return 10;
+        }
+        return 0;
+    }
+
+    /**
+     * Canonical names of the skills a job and candidate share
+     */
+    public List<String> matchedSkills(JobMatchCatalog.MatchableJob job, MatchableCandidate candidate) {
+        return skillDictionary.decode(overlap(job, candidate));
+    }
+
+    /**
+     * Best k jobs for a candidate, best first. Like job_match_scores, only jobs scoring above zero are
+     * matches, and the total counts them. A min-heap keeps the weakest kept match on top
+     * so memory stays at k entries whatever the catalog size.
+     */
+    public RankedMatches topK(Iterable<JobMatchCatalog.MatchableJob> jobs, MatchableCandidate candidate, int k) {
+        PriorityQueue<ScoredMatch> best = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)));
+        int total = 0;
+        for (JobMatchCatalog.MatchableJob job : jobs) {
+            int score = score(job, candidate);
+            if (score > 0) {
+                total++;
+                offer(best, new ScoredMatch(job.getId(), score), k);
+            }
+        }
+        return new RankedMatches(sorted(best), total);
+    }
+
+    /**
+     * Same as {@link #topK(Iterable, MatchableCandidate, int)}, but large snapshots are split into
+     * chunks scored on the matching pool, each with its own top-k heap, merged at the end.
+     * Only detached values are touched, so no JPA session is needed on the worker threads.
+     */
+    public RankedMatches parallelTopK(List<JobMatchCatalog.MatchableJob> jobs, MatchableCandidate candidate, int k) {
+        if (jobs.size() < parallelThreshold) {
+            return topK(jobs, candidate, k);
+        }
+        LongAdder total = new LongAdder();
+        PriorityQueue<ScoredMatch> best = scoringPool.invoke(new TopKTask(jobs, 0, jobs.size(), candidate, k, total));
+        return new RankedMatches(sorted(best), total.intValue());
+    }
+
+    static void offer(PriorityQueue<ScoredMatch> best, ScoredMatch scored, int k) {
+        if (best.size() < k) {
+            best.add(scored);
+        } else if (k > 0 && scored.compareTo(best.peek()) > 0) {
+            best.poll();
+            best.add(scored);
+        }
+    }
+
+    static List<ScoredMatch> sorted(PriorityQueue<ScoredMatch> best) {
+        List<ScoredMatch> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.reverseOrder());
+        return ranked;
+    }
+
+    /**
+     * Explanation pass: reasons and matched skills for one job whose score is already known.
+     * Only called for jobs that end up in the response.
+     */
+    public void explain(JobResponse response, JobMatchCatalog.MatchableJob job, MatchableCandidate candidate) {
+        List<String> matchReasons = new ArrayList<>(3);
+        List<String> matchedSkills = new ArrayList<>();
+
+        // Career track matching (30 points)
+        if (!candidate.getPreferredTrack().isEmpty() && job.getCareerTrack().equals(candidate.getPreferredTrack())) {
+            matchReasons.add("Matches your preferred career track: " + response.getCareerTrack());
+        }
+
+        // Skill matching (50 points - up to 10 points per skill)
+        BitSet overlap = overlap(job, candidate);
+        int skillMatchCount = overlap.cardinality();
+
+        if (skillMatchCount > 0) {
+            List<String> skillMatches = skillDictionary.decode(overlap);
+            matchedSkills.addAll(skillMatches);
+            matchReasons.add("Matches " + skillMatchCount + " skill(s): " + 
+                    String.join(", ", skillMatches.subList(0, Math.min(3, skillMatchCount))) + 
+                    (skillMatchCount > 3 ? "..." : ""));
+        }
+
+        // Experience level matching (20 points)
+        String jobExp = job.getExperienceLevel();
+        int experiencePoints = experiencePoints(jobExp, candidate.getExperienceLevel());
+        if (experiencePoints == 20) {
+            matchReasons.add(jobExp.equals("junior") ? "Suitable for junior level" : "Perfect for entry-level candidates");
+        } else if (experiencePoints == 10) {
+            matchReasons.add("Entry/junior level position");
+        }
+
+        // Description similarity bonus
+        if (descriptionPoints(job, candidate) > 0) {
+            matchReasons.add("Your projects and experience are similar to this job's description");
+        }
+
+        response.setMatchReasons(matchReasons);
+        response.setMatchedSkills(matchedSkills);
+    }
+
+    private static BitSet overlap(JobMatchCatalog.MatchableJob job, MatchableCandidate candidate) {
+        BitSet overlap = (BitSet) job.getSkills().clone();
+        overlap.and(candidate.getSkills());
+        return overlap;
+    }
+
+    private class TopKTask extends RecursiveTask<PriorityQueue<ScoredMatch>> {
+        private final List<JobMatchCatalog.MatchableJob> jobs;
+        private final int from;
+        private final int to;
+        private final MatchableCandidate candidate;
+        private final int k;
+        private final LongAdder total;
+
+        private TopKTask(List<JobMatchCatalog.MatchableJob> jobs, int from, int to, MatchableCandidate candidate, int k,
+                         LongAdder total) {
+            this.jobs = jobs;
+            this.from = from;
+            this.to = to;
+            this.candidate = candidate;
+            this.k = k;
+            this.total = total;
+        }
+
+        @Override
+        protected PriorityQueue<ScoredMatch> compute() {
+            if (to - from <= LEAF_SIZE) {
+                PriorityQueue<ScoredMatch> best = new PriorityQueue<>(Math.max(1, Math.min(k, to - from)));
+                int matched = 0;
+                for (int i = from; i < to; i++) {
+                    JobMatchCatalog.MatchableJob job = jobs.get(i);
+                    int score = score(job, candidate);
+                    if (score > 0) {
+                        matched++;
+                        offer(best, new ScoredMatch(job.getId(), score), k);
+                    }
+                }
+                total.add(matched);
+                return best;
+            }
+
+            int middle = (from + to) >>> 1;
+            TopKTask left = new TopKTask(jobs, from, middle, candidate, k, total);
+            left.fork();
+            PriorityQueue<ScoredMatch> right = new TopKTask(jobs, middle, to, candidate, k, total).compute();
+            PriorityQueue<ScoredMatch> merged = left.join();
+
+            // Fold the smaller buffer into the larger one
+            if (merged.size() < right.size()) {
+                PriorityQueue<ScoredMatch> swap = merged;
+                merged = right;
+                right = swap;
+            }
+            for (ScoredMatch scored : right) {
+                offer(merged, scored, k);
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Matching attributes of one candidate profile. The skill bitset must not be modified.
+     */
+    public static final class MatchableCandidate {
+        private final Long profileId;
+        private final BitSet skills;
+        private final String preferredTrack;
+        private final String experienceLevel;
+        private final SparseVector description;
+
+        MatchableCandidate(Long profileId, BitSet skills, String preferredTrack, String experienceLevel, SparseVector description) {
+            this.profileId = profileId;
+            this.skills = skills;
+            this.preferredTrack = preferredTrack;
+            this.experienceLevel = experienceLevel;
+            this.description = description;
+        }
+
+        public Long getProfileId() {
+            return profileId;
+        }
+
+        public BitSet getSkills() {
+            return skills;
+        }
+
+        public String getPreferredTrack() {
+            return preferredTrack;
+        }
+
+        public String getExperienceLevel() {
+            return experienceLevel;
+        }
+
+        public SparseVector getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * A job or candidate id with its match score
+     */
+    public static final class ScoredMatch implements Comparable<ScoredMatch> {
+        private final Long id;
+        private final int score;
+
+        ScoredMatch(Long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        // Higher score ranks first, newer id wins ties
+        @Override
+        public int compareTo(ScoredMatch other) {
+            int byScore = Integer.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * The best k matches, best first, and how many jobs matched in total
+     */
+    public static final class RankedMatches {
+        private final List<ScoredMatch> matches;
+        private final int total;
+
+        RankedMatches(List<ScoredMatch> matches, int total) {
+            this.matches = matches;
+            this.total = total;
+        }
+
+        public List<ScoredMatch> getMatches() {
+            return matches;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of candidate job pages (search results and the active job list) and of search facet counts.
+ * Entries are tagged with the catalog version; any committed job write bumps the version and drops them.
+ */
+@Component
+public class JobSearchCache {
+
+    private final int maxEntries;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<String, CachedEntry> entries;
+
+    public JobSearchCache(@Value("${jobs.search.cache.max-entries:500}") int maxEntries, MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedEntry> eldest) {
+                return size() > JobSearchCache.this.maxEntries;
+            }
+        };
+
+        FunctionCounter.builder("jobs.search.cache.hits", hits, AtomicLong::get)
+                .description("Job search cache hits")
+                .register(meterRegistry);
+        FunctionCounter.builder("jobs.search.cache.misses", misses, AtomicLong::get)
+                .description("Job search cache misses")
+                .register(meterRegistry);
+        Gauge.builder("jobs.search.cache.size", this, JobSearchCache::size)
+                .description("Job search cache entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key from the normalized query, page coordinates and sort
+     */
+    public static String key(String kind, String query, Pageable pageable) {
+        return key(kind, query) + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+
+    /**
+     * Cache key for a value that covers every match of the normalized query, such as its facet counts
+     */
+    public static String key(String kind, String query) {
+        String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return kind + "|" + normalized;
+    }
+
+    /**
+     * Return the cached value for the key, or load and cache it. Callers must not modify the returned value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Supplier<T> loader) {
+        long version = catalogVersion.get();
+        synchronized (entries) {
+            CachedEntry cached = entries.get(key);
+            if (cached != null && cached.version == version) {
+                hits.incrementAndGet();
+                return (T) cached.value;
+            }
+        }
+
+        misses.incrementAndGet();
+        T value = loader.get();
+        synchronized (entries) {
+            // A job write during the load makes this value stale before it is stored; skip it
+            if (catalogVersion.get() == version) {
+                entries.put(key, new CachedEntry(version, value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Called after every job write commits; all cached entries become stale
+     */
+    public void invalidate() {
+        catalogVersion.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private double size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class CachedEntry {
+        private final long version;
+        private final Object value;
+
+        private CachedEntry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
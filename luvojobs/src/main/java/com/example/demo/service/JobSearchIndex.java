@@ -0,0 +1,214 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over active jobs (title, company, description, required skills).
+ * Built once at startup and kept in sync by the recruiter write paths.
+ */
+@Component
+public class JobSearchIndex {
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // token -> ids of active jobs containing it (sorted so prefixes map to a contiguous range)
+    private NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+
+    // job id -> tokens it was indexed under, used to unlink postings on update/delete
+    private Map<Long, Set<String>> jobTokens = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public JobSearchIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Rebuild the whole index from the active jobs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        NavigableMap<String, Set<Long>> newPostings = new TreeMap<>();
+        Map<Long, Set<String>> newJobTokens = new HashMap<>();
+
+        for (Job job : jobRepository.findAllWithSkillsByStatus("active")) {
+            Set<String> tokens = tokenize(job);
+            newJobTokens.put(job.getId(), tokens);
+            for (String token : tokens) {
+                newPostings.computeIfAbsent(token, t -> new HashSet<>()).add(job.getId());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            jobTokens = newJobTokens;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Index or re-index a job. Jobs that are no longer active are dropped from the index.
+     */
+    public void index(Job job) {
+        if (!"active".equals(job.getStatus())) {
+            remove(job.getId());
+            return;
+        }
+
+        Set<String> tokens = tokenize(job);
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            jobTokens.put(job.getId(), tokens);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new HashSet<>()).add(job.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find active jobs containing every query token, newest first.
+     * Each token is matched as a prefix so partially typed words still hit.
+     */
+    public List<Long> search(String query) {
+        Set<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> matchesPerToken = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                Set<Long> matches = prefixMatches(token);
+                if (matches.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                matchesPerToken.add(matches);
+            }
+
+            // Intersect starting from the most selective token
+            matchesPerToken.sort(Comparator.comparingInt(Set::size));
+            Set<Long> result = new HashSet<>(matchesPerToken.get(0));
+            for (int i = 1; i < matchesPerToken.size() && !result.isEmpty(); i++) {
+                result.retainAll(matchesPerToken.get(i));
+            }
+
+            List<Long> ordered = new ArrayList<>(result);
+            ordered.sort(Comparator.reverseOrder());
+            return ordered;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> prefixMatches(String prefix) {
+        NavigableMap<String, Set<Long>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        Set<Long> union = new HashSet<>();
+        for (Set<Long> ids : range.values()) {
+            union.addAll(ids);
+        }
+        return union;
+    }
+
+    private void unlink(Long jobId) {
+        Set<String> tokens = jobTokens.remove(jobId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(jobId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static Set<String> tokenize(Job job) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(tokenize(job.getTitle()));
+        tokens.addAll(tokenize(job.getCompany()));
+        tokens.addAll(tokenize(job.getDescription()));
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                tokens.addAll(tokenize(skill));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Split text into distinct lowercase alphanumeric tokens, keeping '+' and '#' so c++ and c# survive
+     */
+    static Set<String> tokenize(String text) {
+        return new LinkedHashSet<>(tokens(text));
+    }
+
+    /**
+     * Same split as {@link #tokenize(String)}, keeping repeats and order
+     */
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean tokenChar = Character.isLetterOrDigit(c) || c == '+' || c == '#';
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
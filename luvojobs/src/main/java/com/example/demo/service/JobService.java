@@ -1,99 +1,257 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.FacetedJobsResponse;
+import com.example.demo.dto.JobFeedResponse;
 import com.example.demo.dto.JobResponse;
+import com.example.demo.dto.JobSuggestionResponse;
 import com.example.demo.entity.CandidateProfile;
 import com.example.demo.entity.Job;
 import com.example.demo.entity.User;
 import com.example.demo.repository.CandidateProfileRepository;
 import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.JobSpecifications;
 import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class JobService {
 
+    public static final int MAX_SIMILAR_JOBS = 20;
+    public static final int MAX_RECOMMENDED_JOBS = 20;
+    public static final int MAX_TRENDING_JOBS = 50;
+    public static final int MAX_FEED_SIZE = 100;
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final CandidateProfileRepository profileRepository;
+    private final JobSearchIndex searchIndex;
+    private final JobFacetIndex facetIndex;
+    private final JobSuggestIndex suggestIndex;
+    private final JobSearchCache searchCache;
+    private final JobMatchCatalog matchCatalog;
+    private final JobMatchScorer matchScorer;
+    private final JobMatchScoreService matchScoreService;
+    private final JobMatchScoreWorker matchScoreWorker;
+    private final JobSimilarityIndex similarityIndex;
+    private final JobCoApplicationIndex coApplicationIndex;
+    private final JobTrendingTracker trendingTracker;
+
+    // index: in-memory inverted index, fulltext: ranked tsvector search, like: LIKE scan
+    @Value("${jobs.search.mode:index}")
+    private String searchMode;
+
+    @Value("${jobs.search.fuzzy.enabled:true}")
+    private boolean fuzzySearchEnabled;
 
-    public JobService(JobRepository jobRepository, UserRepository userRepository, CandidateProfileRepository profileRepository) {
+    @Value("${jobs.search.fuzzy.threshold:0.5}")
+    private double fuzzySearchThreshold;
+
+    public JobService(JobRepository jobRepository, UserRepository userRepository, CandidateProfileRepository profileRepository,
+                      JobSearchIndex searchIndex, JobFacetIndex facetIndex, JobSuggestIndex suggestIndex,
+                      JobSearchCache searchCache, JobMatchCatalog matchCatalog, JobMatchScorer matchScorer,
+                      JobMatchScoreService matchScoreService, JobMatchScoreWorker matchScoreWorker,
+                      JobSimilarityIndex similarityIndex,
+                      JobCoApplicationIndex coApplicationIndex, JobTrendingTracker trendingTracker) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.suggestIndex = suggestIndex;
+        this.searchCache = searchCache;
+        this.matchCatalog = matchCatalog;
+        this.matchScorer = matchScorer;
+        this.matchScoreService = matchScoreService;
+        this.matchScoreWorker = matchScoreWorker;
+        this.similarityIndex = similarityIndex;
+        this.coApplicationIndex = coApplicationIndex;
+        this.trendingTracker = trendingTracker;
     }
 
     public Page<JobResponse> getActiveJobs(Pageable pageable) {
-        return jobRepository.findByStatus("active", pageable)
-                .map(this::mapToResponse);
+        return withCurrentViews(searchCache.getOrLoad(JobSearchCache.key("active", null, pageable),
+                () -> jobRepository.findByStatus("active", pageable).map(this::mapToResponse)));
+    }
+
+    /**
+     * Keyset-paginated active job feed, newest first. Pass the returned cursor to get the next slice.
+     * The slice size is clamped to 1..MAX_FEED_SIZE.
+     */
+    public JobFeedResponse getActiveJobFeed(String cursor, int requestedSize) {
+        int size = Math.max(1, Math.min(requestedSize, MAX_FEED_SIZE));
+        // Fetch one extra row to learn whether another slice exists without counting
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Job> jobs;
+        if (cursor == null || cursor.isEmpty()) {
+            jobs = jobRepository.findFeedByStatus("active", limit);
+        } else {
+            Job last = decodeCursor(cursor);
+            jobs = jobRepository.findFeedByStatusAfter("active", last.getPostedDate(), last.getId(), limit);
+        }
+
+        boolean hasMore = jobs.size() > size;
+        if (hasMore) {
+            jobs = jobs.subList(0, size);
+        }
+        String nextCursor = hasMore ? encodeCursor(jobs.get(jobs.size() - 1)) : null;
+
+        return new JobFeedResponse(
+                jobs.stream().map(this::mapToResponse).collect(Collectors.toList()),
+                nextCursor,
+                hasMore
+        );
     }
 
     public Page<JobResponse> searchJobs(String query, Pageable pageable) {
-        return jobRepository.searchActiveJobs(query, pageable)
-                .map(this::mapToResponse);
+        return withCurrentViews(searchCache.getOrLoad(JobSearchCache.key("search", query, pageable),
+                () -> loadSearchPage(query, pageable)));
     }
 
-    public Page<JobResponse> getJobsWithFilters(String type, String location, String experienceLevel, String careerTrack, Pageable pageable) {
-        Page<Job> jobs = jobRepository.findByStatus("active", pageable);
+    /**
+     * Search page plus facet counts over every match of the same search path that produced the page.
+     * The counts are cached next to the page, so a cached search does not collect its matches again.
+     */
+    public FacetedJobsResponse searchJobsWithFacets(String query, Pageable pageable) {
+        Page<JobResponse> jobs = searchJobs(query, pageable);
+        Map<String, Map<String, Integer>> facets = searchCache.getOrLoad(JobSearchCache.key("search-facets", query),
+                () -> facetIndex.count(searchMatchIds(query), new HashMap<>()));
+        return new FacetedJobsResponse(jobs, facets);
+    }
 
-        // Apply filters
-        List<Job> filtered = jobs.getContent();
-        if (type != null && !type.equals("all")) {
-            filtered = filtered.stream().filter(j -> j.getType().equals(type)).collect(Collectors.toList());
-        }
-        if (location != null && !location.equals("all")) {
-            if (location.equals("remote")) {
-                filtered = filtered.stream().filter(j -> j.getLocation().toLowerCase().contains("remote")).collect(Collectors.toList());
-            } else {
-                filtered = filtered.stream().filter(j -> j.getLocation().equals(location)).collect(Collectors.toList());
-            }
-        }
-        if (experienceLevel != null && !experienceLevel.equals("all")) {
-            filtered = filtered.stream().filter(j -> j.getExperienceLevel().equals(experienceLevel)).collect(Collectors.toList());
-        }
-        if (careerTrack != null && !careerTrack.equals("all")) {
-            filtered = filtered.stream().filter(j -> careerTrack.equals(j.getCareerTrack())).collect(Collectors.toList());
-        }
+    /**
+     * Autocomplete from the in-memory trie; runs without a transaction so no connection is taken
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JobSuggestionResponse> suggestJobs(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
+    }
 
-        return jobRepository.findAll(pageable)
+    public Page<JobResponse> getJobsWithFilters(String type, String location, String experienceLevel, String careerTrack, Pageable pageable) {
+        return jobRepository.findAll(JobSpecifications.activeJobsMatching(type, location, experienceLevel, careerTrack), pageable)
                 .map(this::mapToResponse);
     }
 
-    public List<JobResponse> getMatchedJobs(Long userId) {
+    public FacetedJobsResponse getJobsWithFiltersAndFacets(String type, String location, String experienceLevel, String careerTrack, Pageable pageable) {
+        Page<JobResponse> jobs = getJobsWithFilters(type, location, experienceLevel, careerTrack, pageable);
+
+        Map<String, String> selected = new HashMap<>();
+        selected.put(JobFacetIndex.TYPE, type);
+        selected.put(JobFacetIndex.LOCATION, location);
+        selected.put(JobFacetIndex.EXPERIENCE_LEVEL, experienceLevel);
+        selected.put(JobFacetIndex.CAREER_TRACK, careerTrack);
+        return new FacetedJobsResponse(jobs, facetIndex.count(null, selected));
+    }
+
+    /**
+     * Page of active jobs ranked by match score. Only jobs scoring above zero are matches, whether the page
+     * comes from job_match_scores or is ranked live. Only the returned page is loaded, and reasons
+     * are only built for it when explain is set.
+     */
+    public Page<JobResponse> getMatchedJobs(Long userId, Pageable pageable, boolean explain) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         CandidateProfile profile = profileRepository.findByUser(user).orElse(null);
         if (profile == null) {
-            return jobRepository.findByStatus("active", Pageable.unpaged())
-                    .map(this::mapToResponse)
-                    .getContent();
+            return jobRepository.findByStatus("active", pageable)
+                    .map(this::mapToResponse);
         }
 
-        List<Job> allJobs = jobRepository.findByStatus("active", Pageable.unpaged()).getContent();
-        List<String> userSkills = profile.getSkills().stream()
-                .map(s -> s.getName().toLowerCase())
-                .collect(Collectors.toList());
-        String preferredTrack = profile.getPreferredCareerTrack() != null 
-                ? profile.getPreferredCareerTrack().toLowerCase() : "";
-        String experienceLevel = profile.getExperienceLevel() != null 
-                ? profile.getExperienceLevel().toLowerCase() : "";
-
-        return allJobs.stream()
-                .map(job -> {
-                    JobResponse response = mapToResponse(job);
-                    calculateMatchScore(response, job, userSkills, preferredTrack, experienceLevel);
-                    return response;
-                })
-                .sorted((a, b) -> Integer.compare(b.getMatchScore(), a.getMatchScore()))
-                .collect(Collectors.toList());
+        JobMatchScorer.MatchableCandidate candidate = matchScorer.candidateOf(profile);
+
+        // Numeric pass: served from job_match_scores when possible, otherwise ranked live over the match catalog
+        List<JobMatchScorer.ScoredMatch> matches = matchScoreService.findRanked(profile, pageable);
+        long total;
+        if (matches != null) {
+            // The table only stores jobs scoring above zero; a short, non-empty page is the last one
+            boolean lastPage = matches.size() < pageable.getPageSize() && (!matches.isEmpty() || pageable.getOffset() == 0);
+            total = lastPage ? pageable.getOffset() + matches.size() : matchScoreService.countRanked(profile);
+        } else {
+            if (profile.getMatchScoresComputedAt() == null) {
+                // Materialize in the background rather than writing from this read
+                matchScoreWorker.refreshProfile(profile.getId());
+            }
+            int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+            JobMatchScorer.RankedMatches ranked = matchScorer.parallelTopK(matchCatalog.snapshot(), candidate, k);
+            List<JobMatchScorer.ScoredMatch> top = ranked.getMatches();
+            matches = top.subList((int) Math.min(pageable.getOffset(), top.size()), top.size());
+            total = ranked.getTotal();
+        }
+
+        Map<Long, Job> jobsById = jobRepository.findAllById(matches.stream()
+                        .map(JobMatchScorer.ScoredMatch::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobResponse> content = new ArrayList<>(matches.size());
+        for (JobMatchScorer.ScoredMatch match : matches) {
+            Job job = jobsById.get(match.getId());
+            if (job == null) {
+                continue;
+            }
+            JobResponse response = mapToResponse(job);
+            response.setMatchScore(match.getScore());
+            // Explanation pass, only for the jobs being returned
+            if (explain) {
+                matchScorer.explain(response, matchCatalog.get(job), candidate);
+            }
+            content.add(response);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Active jobs that candidates who applied where this user applied also applied to, strongest first
+     */
+    public List<JobResponse> getRecommendedJobs(Long userId, int limit) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        int size = Math.max(1, Math.min(limit, MAX_RECOMMENDED_JOBS));
+        // Over-fetch, since neighbours can have been closed since the model was built
+        return loadActive(coApplicationIndex.recommend(user.getId(), size * 2), size);
+    }
+
+    /**
+     * Active jobs with the most recent views and applications, hottest first. Served from the
+     * in-memory trending counters, so no aggregation runs per request.
+     */
+    public List<JobResponse> getTrendingJobs(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TRENDING_JOBS));
+        // Over-fetch, since trending jobs can have been closed since they were counted
+        return loadActive(trendingTracker.trending(size * 2), size);
+    }
+
+    /**
+     * Active jobs similar to the given one, most similar first
+     */
+    public List<JobResponse> getSimilarJobs(Long jobId, int limit) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        int size = Math.max(1, Math.min(limit, MAX_SIMILAR_JOBS));
+        return toPage(similarityIndex.similar(job, size), PageRequest.of(0, size)).getContent();
     }
 
     public JobResponse getJobById(Long jobId) {
@@ -103,58 +261,155 @@ public class JobService {
         // Increment views
         job.setViews(job.getViews() + 1);
         jobRepository.save(job);
+        trendingTracker.recordView(jobId);
         
         return mapToResponse(job);
     }
 
-    private void calculateMatchScore(JobResponse response, Job job, List<String> userSkills, String preferredTrack, String experienceLevel) {
-        int matchScore = 0;
-        List<String> matchReasons = new ArrayList<>();
-        List<String> matchedSkills = new ArrayList<>();
+    private Page<JobResponse> loadSearchPage(String query, Pageable pageable) {
+        Page<JobResponse> results = exactSearch(query, pageable);
 
-        // Career track matching (30 points)
-        if (!preferredTrack.isEmpty() && job.getCareerTrack() != null 
-                && job.getCareerTrack().toLowerCase().equals(preferredTrack)) {
-            matchScore += 30;
-            matchReasons.add("Matches your preferred career track: " + job.getCareerTrack());
+        // Only fall back to trigram similarity when nothing matched, e.g. "recat developer"
+        if (fuzzySearchEnabled && results.getTotalElements() == 0 && query != null && !query.isBlank()) {
+            jobRepository.setWordSimilarityThreshold(String.valueOf(fuzzySearchThreshold));
+            return jobRepository.fuzzySearchActiveJobs(query.trim().toLowerCase(Locale.ROOT), pageable)
+                    .map(this::mapToResponse);
         }
+        return results;
+    }
 
-        // Skill matching (50 points - up to 10 points per skill)
-        List<String> jobSkills = job.getRequiredSkills().stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
-        
-        List<String> skillMatches = userSkills.stream()
-                .filter(us -> jobSkills.stream().anyMatch(js -> js.contains(us) || us.contains(js)))
-                .collect(Collectors.toList());
+    /**
+     * Ids of every job loadSearchPage would page through for the query, following the same mode and fallbacks
+     */
+    private List<Long> searchMatchIds(String query) {
+        List<Long> ids = exactSearchIds(query);
+        if (fuzzySearchEnabled && ids.isEmpty() && query != null && !query.isBlank()) {
+            jobRepository.setWordSimilarityThreshold(String.valueOf(fuzzySearchThreshold));
+            return jobRepository.fuzzySearchActiveJobIds(query.trim().toLowerCase(Locale.ROOT));
+        }
+        return ids;
+    }
 
-        if (!skillMatches.isEmpty()) {
-            int skillPoints = Math.min(skillMatches.size() * 10, 50);
-            matchScore += skillPoints;
-            matchedSkills.addAll(skillMatches);
-            matchReasons.add("Matches " + skillMatches.size() + " skill(s): " + 
-                    String.join(", ", skillMatches.subList(0, Math.min(3, skillMatches.size()))) + 
-                    (skillMatches.size() > 3 ? "..." : ""));
+    private List<Long> exactSearchIds(String query) {
+        if ("fulltext".equals(searchMode)) {
+            return jobRepository.searchActiveJobIdsRanked(query);
         }
+        if ("like".equals(searchMode) || !searchIndex.isReady()) {
+            return jobRepository.searchActiveJobIds(query);
+        }
+        return searchIndex.search(query);
+    }
 
-        // Experience level matching (20 points)
-        if (!experienceLevel.isEmpty()) {
-            String jobExp = job.getExperienceLevel().toLowerCase();
-            if (jobExp.equals("entry-level") && (experienceLevel.contains("entry") || experienceLevel.contains("student"))) {
-                matchScore += 20;
-                matchReasons.add("Perfect for entry-level candidates");
-            } else if (jobExp.equals("junior") && (experienceLevel.contains("junior") || experienceLevel.contains("1-3"))) {
-                matchScore += 20;
-                matchReasons.add("Suitable for junior level");
-            } else if (jobExp.equals("entry-level") || jobExp.equals("junior")) {
-                matchScore += 10;
-                matchReasons.add("Entry/junior level position");
+    private Page<JobResponse> exactSearch(String query, Pageable pageable) {
+        if ("fulltext".equals(searchMode)) {
+            return jobRepository.searchActiveJobsRanked(query, pageable)
+                    .map(this::mapToResponse);
+        }
+
+        // The index is built once the application is ready; fall back to the table scan until then
+        if ("like".equals(searchMode) || !searchIndex.isReady()) {
+            return jobRepository.searchActiveJobs(query, pageable)
+                    .map(this::mapToResponse);
+        }
+        return toPage(searchIndex.search(query), pageable);
+    }
+
+    private String encodeCursor(Job job) {
+        String position = job.getPostedDate() + ":" + job.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into the (postedDate, id) position of the last job already returned
+     */
+    private Job decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
             }
+            Job last = new Job();
+            last.setPostedDate(LocalDate.parse(position[0]));
+            last.setId(Long.parseLong(position[1]));
+            return last;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Load jobs by id keeping the given order, skipping any that are no longer active
+     */
+    private List<JobResponse> loadActive(List<Long> jobIds, int limit) {
+        Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return jobIds.stream()
+                .map(jobsById::get)
+                .filter(job -> job != null && "active".equals(job.getStatus()))
+                .limit(limit)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Load one page of an ordered id list and keep the list order in the response
+     */
+    private Page<JobResponse> toPage(List<Long> jobIds, Pageable pageable) {
+        int start = (int) Math.min(pageable.getOffset(), jobIds.size());
+        int end = Math.min(start + pageable.getPageSize(), jobIds.size());
+        List<Long> pageIds = jobIds.subList(start, end);
+
+        Map<Long, Job> jobsById = jobRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobResponse> content = pageIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, jobIds.size());
+    }
+
+    /**
+     * Cached pages are shared between requests, and view counts move on every job view without dropping them.
+     * Return a copy of the page with the views read fresh for just its jobs.
+     */
+    private Page<JobResponse> withCurrentViews(Page<JobResponse> cached) {
+        if (cached.getContent().isEmpty()) {
+            return cached;
         }
+        Map<Long, Integer> views = new HashMap<>();
+        for (Object[] row : jobRepository.findViewsByIdIn(cached.getContent().stream()
+                .map(JobResponse::getId)
+                .collect(Collectors.toList()))) {
+            views.put((Long) row[0], (Integer) row[1]);
+        }
+        return cached.map(response -> {
+            JobResponse copy = copyOf(response);
+            copy.setViews(views.getOrDefault(response.getId(), response.getViews()));
+            return copy;
+        });
+    }
 
-        response.setMatchScore(matchScore);
-        response.setMatchReasons(matchReasons);
-        response.setMatchedSkills(matchedSkills);
+    private static JobResponse copyOf(JobResponse cached) {
+        JobResponse response = new JobResponse();
+        response.setId(cached.getId());
+        response.setTitle(cached.getTitle());
+        response.setCompany(cached.getCompany());
+        response.setLocation(cached.getLocation());
+        response.setType(cached.getType());
+        response.setExperienceLevel(cached.getExperienceLevel());
+        response.setDescription(cached.getDescription());
+        response.setRequirements(cached.getRequirements());
+        response.setRequiredSkills(cached.getRequiredSkills());
+        response.setSalary(cached.getSalary());
+        response.setCareerTrack(cached.getCareerTrack());
+        response.setPostedDate(cached.getPostedDate());
+        response.setDeadline(cached.getDeadline());
+        response.setStatus(cached.getStatus());
+        response.setFruvoCoinRequired(cached.getFruvoCoinRequired());
+        response.setViews(cached.getViews());
+        return response;
     }
 
     private JobResponse mapToResponse(Job job) {
@@ -166,8 +421,9 @@ public class JobService {
         response.setType(job.getType());
         response.setExperienceLevel(job.getExperienceLevel());
         response.setDescription(job.getDescription());
-        response.setRequirements(job.getRequirements());
-        response.setRequiredSkills(job.getRequiredSkills());
+        // Copy the lazy collections so the response stays usable once cached and detached from the session
+        response.setRequirements(new ArrayList<>(job.getRequirements()));
+        response.setRequiredSkills(new ArrayList<>(job.getRequiredSkills()));
         response.setSalary(job.getSalary());
         response.setCareerTrack(job.getCareerTrack());
         response.setPostedDate(job.getPostedDate());
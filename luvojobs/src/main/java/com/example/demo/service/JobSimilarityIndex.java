@@ -0,0 +1,278 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash signatures over active jobs (title, skills, description shingles) kept in LSH buckets,
+ * so similar jobs are found by bucket lookup instead of comparing against every job.
+ */
+@Component
+public class JobSimilarityIndex {
+
+    private static final int NUM_HASHES = 128;
+    // 32 bands of 4 rows: pairs above roughly 0.4 Jaccard similarity share a bucket with high probability
+    private static final int BANDS = 32;
+    private static final int ROWS = NUM_HASHES / BANDS;
+
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    // band key -> ids of jobs whose signature has that band
+    private Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    public JobSimilarityIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Rebuild signatures and buckets from the active jobs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Entry> built = new ArrayList<>();
+        for (Job job : jobRepository.findAllWithSkillsByStatus("active")) {
+            built.add(toEntry(job));
+        }
+
+        lock.writeLock().lock();
+        try {
+            entries = new HashMap<>();
+            buckets = new HashMap<>();
+            for (Entry entry : built) {
+                link(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index a job. Jobs that are no longer active are dropped.
+     */
+    public void index(Job job) {
+        Entry entry = "active".equals(job.getStatus()) ? toEntry(job) : null;
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            if (entry != null) {
+                link(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the active jobs most similar to the given one, most similar first
+     */
+    public List<Long> similar(Job job, int limit) {
+        Entry probe = toEntry(job);
+        List<Long> result = new ArrayList<>();
+        for (Match match : candidates(probe)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(match.jobId);
+        }
+        return result;
+    }
+
+    /**
+     * Ids of the recruiter's other active jobs whose estimated similarity is at least the threshold.
+     * Only jobs sharing an LSH bucket with the probe are compared, so the check stays cheap on write.
+     */
+    public List<Long> nearDuplicates(Job job, Long recruiterId, double threshold) {
+        List<Long> result = new ArrayList<>();
+        for (Match match : candidates(toEntry(job))) {
+            if (match.similarity < threshold) {
+                break;
+            }
+            if (recruiterId.equals(match.recruiterId)) {
+                result.add(match.jobId);
+            }
+        }
+        return result;
+    }
+
+    private List<Match> candidates(Entry probe) {
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (long bandKey : probe.bandKeys) {
+                for (Long jobId : buckets.getOrDefault(bandKey, Set.of())) {
+                    if (jobId.equals(probe.jobId) || !seen.add(jobId)) {
+                        continue;
+                    }
+                    Entry other = entries.get(jobId);
+                    matches.add(new Match(jobId, other.recruiterId, estimate(probe.signature, other.signature)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble((Match m) -> m.similarity).reversed()
+                .thenComparing(m -> m.jobId, Comparator.reverseOrder()));
+        return matches;
+    }
+
+    private void link(Entry entry) {
+        entries.put(entry.jobId, entry);
+        for (long bandKey : entry.bandKeys) {
+            buckets.computeIfAbsent(bandKey, k -> new HashSet<>()).add(entry.jobId);
+        }
+    }
+
+    private void unlink(Long jobId) {
+        Entry entry = entries.remove(jobId);
+        if (entry == null) {
+            return;
+        }
+        for (long bandKey : entry.bandKeys) {
+            Set<Long> ids = buckets.get(bandKey);
+            if (ids != null) {
+                ids.remove(jobId);
+                if (ids.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private static Entry toEntry(Job job) {
+        Set<Integer> shingles = shingles(job);
+        int[] signature = signature(shingles);
+        // A job without any text has nothing to be similar on, so it is kept out of the buckets
+        long[] bandKeys = new long[shingles.isEmpty() ? 0 : BANDS];
+        for (int band = 0; band < bandKeys.length; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = mix(key * 31 + signature[band * ROWS + row]);
+            }
+            bandKeys[band] = key;
+        }
+        Long recruiterId = job.getRecruiter() != null ? job.getRecruiter().getId() : null;
+        return new Entry(job.getId(), recruiterId, signature, bandKeys);
+    }
+
+    /**
+     * Title words, whole skills and description word pairs, hashed to ints
+     */
+    private static Set<Integer> shingles(Job job) {
+        Set<Integer> shingles = new HashSet<>();
+        for (String token : JobSearchIndex.tokens(job.getTitle())) {
+            shingles.add(("t:" + token).hashCode());
+        }
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                shingles.add(("s:" + String.join(" ", JobSearchIndex.tokens(skill))).hashCode());
+            }
+        }
+        List<String> words = JobSearchIndex.tokens(job.getDescription());
+        for (int i = 0; i < words.size(); i++) {
+            shingles.add((i + 1 < words.size() ? words.get(i) + " " + words.get(i + 1) : words.get(i)).hashCode());
+        }
+        return shingles;
+    }
+
+    private static int[] signature(Set<Integer> shingles) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) mix(shingle ^ SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Fraction of equal signature positions, an unbiased estimate of Jaccard similarity
+     */
+    private static double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    // 64-bit finalizer from MurmurHash3
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static class Entry {
+        private final Long jobId;
+        private final Long recruiterId;
+        private final int[] signature;
+        private final long[] bandKeys;
+
+        private Entry(Long jobId, Long recruiterId, int[] signature, long[] bandKeys) {
+            this.jobId = jobId;
+            this.recruiterId = recruiterId;
+            this.signature = signature;
+            this.bandKeys = bandKeys;
+        }
+    }
+
+    private static class Match {
+        private final Long jobId;
+        private final Long recruiterId;
+        private final double similarity;
+
+        private Match(Long jobId, Long recruiterId, double similarity) {
+            this.jobId = jobId;
+            this.recruiterId = recruiterId;
+            this.similarity = similarity;
+        }
+    }
+}
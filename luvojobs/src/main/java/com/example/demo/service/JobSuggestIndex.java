@@ -0,0 +1,301 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobSuggestionResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobApplicationRepository;
+import com.example.demo.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie over active job titles, companies and required skills for autocomplete.
+ * Every node caches its top completions by popularity, so a lookup is a walk down the prefix.
+ * Popularity (views and applications) is re-read periodically, so rankings follow traffic between edits.
+ */
+@Component
+public class JobSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // An application says more about interest in a job than a view does
+    private static final long APPLICATION_WEIGHT = 5;
+
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator
+            .comparingLong((Suggestion s) -> s.weight).reversed()
+            .thenComparing(s -> s.text);
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+
+    // job id -> terms it contributed and with what weight, so updates can retract them
+    private Map<Long, IndexedJob> jobs = new HashMap<>();
+
+    public JobSuggestIndex(JobRepository jobRepository, JobApplicationRepository applicationRepository) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    /**
+     * Rebuild the trie from the active jobs in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, Long> applicationCounts = new HashMap<>();
+        for (Object[] row : applicationRepository.countGroupedByJob()) {
+            applicationCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<IndexedJob> indexed = new ArrayList<>();
+        for (Job job : jobRepository.findAllWithSkillsByStatus("active")) {
+            indexed.add(toIndexedJob(job, applicationCounts.getOrDefault(job.getId(), 0L)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            jobs = new HashMap<>();
+            for (IndexedJob job : indexed) {
+                link(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-read views and application counts of the active jobs and re-weight the terms of jobs whose
+     * popularity moved. Only those terms' paths are recomputed; titles and skills are not reloaded.
+     */
+    @Scheduled(fixedDelayString = "${jobs.suggest.weight-refresh-interval-ms:600000}",
+            initialDelayString = "${jobs.suggest.weight-refresh-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void refreshWeights() {
+        Map<Long, Long> applicationCounts = new HashMap<>();
+        for (Object[] row : applicationRepository.countGroupedByJob()) {
+            applicationCounts.put((Long) row[0], (Long) row[1]);
+        }
+        List<Object[]> views = jobRepository.findViewsByStatus("active");
+
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : views) {
+                IndexedJob job = jobs.get((Long) row[0]);
+                if (job == null) {
+                    continue;
+                }
+                long weight = weight((Integer) row[1], applicationCounts.getOrDefault(job.id, 0L));
+                if (weight != job.weight) {
+                    unlink(job.id);
+                    link(job.withWeight(weight));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index a job. Jobs that are no longer active are dropped.
+     */
+    public void index(Job job) {
+        IndexedJob indexed = "active".equals(job.getStatus())
+                ? toIndexedJob(job, applicationRepository.countByJob(job))
+                : null;
+
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            if (indexed != null) {
+                link(indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular titles, companies and skills starting with the given prefix
+     */
+    public List<JobSuggestionResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<JobSuggestionResponse> result = new ArrayList<>();
+        if (key.isEmpty()) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return result;
+            }
+            for (Suggestion suggestion : node.top) {
+                if (result.size() >= Math.min(limit, MAX_SUGGESTIONS)) {
+                    break;
+                }
+                result.add(new JobSuggestionResponse(suggestion.display, suggestion.type, suggestion.jobCount));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IndexedJob toIndexedJob(Job job, long applications) {
+        IndexedJob indexed = new IndexedJob(job.getId(), weight(job.getViews(), applications));
+        indexed.addTerm(job.getTitle(), "title");
+        indexed.addTerm(job.getCompany(), "company");
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                indexed.addTerm(skill, "skill");
+            }
+        }
+        return indexed;
+    }
+
+    private static long weight(Integer views, long applications) {
+        return 1 + (views != null ? views : 0) + APPLICATION_WEIGHT * applications;
+    }
+
+    private void link(IndexedJob job) {
+        jobs.put(job.id, job);
+        for (String[] term : job.terms) {
+            adjust(term[0], term[1], term[2], job.weight, 1);
+        }
+    }
+
+    private void unlink(Long jobId) {
+        IndexedJob job = jobs.remove(jobId);
+        if (job == null) {
+            return;
+        }
+        for (String[] term : job.terms) {
+            adjust(term[0], term[1], term[2], -job.weight, -1);
+        }
+    }
+
+    /**
+     * Apply a weight change to one term and refresh the cached completions along its path
+     */
+    private void adjust(String key, String type, String display, long weightDelta, int jobDelta) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+
+        Suggestion suggestion = node.terms.get(type);
+        if (suggestion == null) {
+            suggestion = new Suggestion(key, display, type);
+            node.terms.put(type, suggestion);
+        }
+        suggestion.weight += weightDelta;
+        suggestion.jobCount += jobDelta;
+        if (suggestion.jobCount <= 0) {
+            node.terms.remove(type);
+        }
+
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.terms.isEmpty() && current.children.isEmpty()) {
+                path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                continue;
+            }
+            List<Suggestion> candidates = new ArrayList<>(current.terms.values());
+            for (Node child : current.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(BY_WEIGHT);
+            current.top = new ArrayList<>(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // Terms ending at this node, one per kind (title, company, skill)
+        private final Map<String, Suggestion> terms = new HashMap<>(2);
+        private List<Suggestion> top = new ArrayList<>();
+    }
+
+    private static class Suggestion {
+        private final String text;
+        private final String display;
+        private final String type;
+        private long weight;
+        private long jobCount;
+
+        private Suggestion(String text, String display, String type) {
+            this.text = text;
+            this.display = display;
+            this.type = type;
+        }
+    }
+
+    private static class IndexedJob {
+        private final Long id;
+        private final long weight;
+        // normalized key, type, display text
+        private final List<String[]> terms = new ArrayList<>();
+
+        private IndexedJob(Long id, long weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+
+        private IndexedJob withWeight(long weight) {
+            IndexedJob copy = new IndexedJob(id, weight);
+            copy.terms.addAll(terms);
+            return copy;
+        }
+
+        private void addTerm(String text, String type) {
+            String key = normalize(text);
+            if (key.isEmpty()) {
+                return;
+            }
+            for (String[] term : terms) {
+                if (term[0].equals(key) && term[1].equals(type)) {
+                    return;
+                }
+            }
+            terms.add(new String[]{key, type, text.trim()});
+        }
+    }
+}
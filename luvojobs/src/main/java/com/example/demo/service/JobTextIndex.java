@@ -0,0 +1,194 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TF-IDF vectorizer over active job text (title, description, requirements). Keeps the term
+ * dictionary and document frequencies in memory and is updated incrementally by the match catalog.
+ * Vectors of existing jobs are not reweighted when document frequencies drift; a rebuild does that.
+ *
+ * A term no active job uses any more is dropped from the dictionary. Its id is not handed out again, since
+ * vectors computed earlier may still hold it; a rebuild renumbers the live terms densely.
+ */
+@Component
+public class JobTextIndex {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with", "you",
+            "your", "who", "can", "able", "work", "working", "experience", "strong", "good", "team", "etc");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Integer> termIds = new HashMap<>();
+    private String[] terms = new String[1024];
+    private int termCount;
+    private int[] documentFrequency = new int[1024];
+    private int documentCount;
+
+    // job id -> distinct term ids it counted towards, so document frequencies can be retracted
+    private Map<Long, int[]> jobTerms = new HashMap<>();
+
+    /**
+     * Replace the whole corpus and return the vector of every job
+     */
+    public Map<Long, SparseVector> rebuild(Map<Long, String> texts) {
+        Map<Long, Map<String, Integer>> counts = new HashMap<>();
+        for (Map.Entry<Long, String> entry : texts.entrySet()) {
+            counts.put(entry.getKey(), termCounts(entry.getValue()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            termIds = new HashMap<>();
+            terms = new String[1024];
+            termCount = 0;
+            documentFrequency = new int[1024];
+            documentCount = 0;
+            jobTerms = new HashMap<>();
+            for (Map.Entry<Long, Map<String, Integer>> entry : counts.entrySet()) {
+                addDocument(entry.getKey(), entry.getValue());
+            }
+
+            Map<Long, SparseVector> vectors = new HashMap<>();
+            for (Map.Entry<Long, Map<String, Integer>> entry : counts.entrySet()) {
+                vectors.put(entry.getKey(), weigh(entry.getValue()));
+            }
+            return vectors;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace one job's text and return its vector
+     */
+    public SparseVector index(Long jobId, String text) {
+        Map<String, Integer> counts = termCounts(text);
+        lock.writeLock().lock();
+        try {
+            removeDocument(jobId);
+            addDocument(jobId, counts);
+            return weigh(counts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vector for text that is not part of the corpus (a candidate profile, an inactive job).
+     * Terms no active job uses are dropped since they cannot contribute to a dot product.
+     */
+    public SparseVector vectorize(String text) {
+        Map<String, Integer> counts = termCounts(text);
+        lock.readLock().lock();
+        try {
+            return weigh(counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(Long jobId, Map<String, Integer> counts) {
+        int[] ids = new int[counts.size()];
+        int n = 0;
+        for (String term : counts.keySet()) {
+            Integer id = termIds.get(term);
+            if (id == null) {
+                id = termCount++;
+                if (id >= documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, documentFrequency.length * 2);
+                    terms = Arrays.copyOf(terms, terms.length * 2);
+                }
+                termIds.put(term, id);
+                terms[id] = term;
+            }
+            documentFrequency[id]++;
+            ids[n++] = id;
+        }
+        jobTerms.put(jobId, ids);
+        documentCount++;
+    }
+
+    private void removeDocument(Long jobId) {
+        int[] ids = jobTerms.remove(jobId);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            if (--documentFrequency[id] == 0) {
+                termIds.remove(terms[id]);
+                terms[id] = null;
+            }
+        }
+        documentCount--;
+    }
+
+    /**
+     * Log-scaled term frequency times smoothed inverse document frequency, L2-normalized
+     */
+    private SparseVector weigh(Map<String, Integer> counts) {
+        int[] ids = new int[counts.size()];
+        float[] raw = new float[counts.size()];
+        int n = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            Integer id = termIds.get(entry.getKey());
+            if (id == null || documentFrequency[id] == 0) {
+                continue;
+            }
+            double idf = Math.log((documentCount + 1.0) / (documentFrequency[id] + 1.0)) + 1.0;
+            ids[n] = id;
+            raw[n] = (float) ((1.0 + Math.log(entry.getValue())) * idf);
+            n++;
+        }
+        if (n == 0) {
+            return SparseVector.EMPTY;
+        }
+
+        // Sort by term id so dot products can merge the two arrays
+        Integer[] order = new Integer[n];
+        double norm = 0;
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            norm += raw[i] * raw[i];
+        }
+        Arrays.sort(order, (x, y) -> Integer.compare(ids[x], ids[y]));
+        norm = Math.sqrt(norm);
+
+        int[] terms = new int[n];
+        float[] weights = new float[n];
+        for (int i = 0; i < n; i++) {
+            terms[i] = ids[order[i]];
+            weights[i] = (float) (raw[order[i]] / norm);
+        }
+        return new SparseVector(terms, weights);
+    }
+
+    private static Map<String, Integer> termCounts(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (text == null || text.isEmpty()) {
+            return counts;
+        }
+        for (String token : JobSearchIndex.tokens(text)) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
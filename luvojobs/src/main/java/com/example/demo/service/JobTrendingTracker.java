@@ -0,0 +1,222 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.JobTrendingScore;
+import com.example.demo.repository.JobTrendingScoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Exponentially decayed view and application activity per job, for the trending feed.
+ * Counts live in a Count-Min Sketch, with a bounded heap of the hottest jobs on top, so reading
+ * the feed never touches job_applications. The top jobs are checkpointed to job_trending_scores.
+ *
+ * Decay uses a landmark: increments are scaled up by e^(rate * (now - landmark)) instead of decaying
+ * every counter, so relative order never changes and only the landmark needs moving now and then.
+ */
+@Component
+public class JobTrendingTracker {
+
+    public static final double VIEW_WEIGHT = 1;
+
+    // An application says more about interest in a job than a view does
+    public static final double APPLICATION_WEIGHT = 5;
+
+    private static final int DEPTH = 4;
+
+    // Past this exponent the scaled counters are brought back down to avoid overflow
+    private static final double MAX_EXPONENT = 50;
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final JobTrendingScoreRepository trendingScoreRepository;
+    private final int topK;
+    private final double decayPerMilli;
+
+    private final double[][] sketch;
+    private final int mask;
+
+    // job id -> scaled score, mirrored by a min-heap so the weakest entry can be evicted
+    private final Map<Long, Double> top = new HashMap<>();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>();
+
+    private long landmark = System.currentTimeMillis();
+
+    public JobTrendingTracker(JobTrendingScoreRepository trendingScoreRepository,
+                              @Value("${jobs.trending.top-k:100}") int topK,
+                              @Value("${jobs.trending.half-life-hours:24}") double halfLifeHours,
+                              @Value("${jobs.trending.sketch-width:4096}") int sketchWidth) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.topK = Math.max(1, topK);
+        this.decayPerMilli = Math.log(2) / (halfLifeHours * 3_600_000d);
+        int width = Integer.highestOneBit(Math.max(16, sketchWidth) - 1) << 1;
+        this.sketch = new double[DEPTH][width];
+        this.mask = width - 1;
+    }
+
+    public void recordView(Long jobId) {
+        record(jobId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordApplication(Long jobId) {
+        record(jobId, APPLICATION_WEIGHT, System.currentTimeMillis());
+    }
+
+    /**
+     * Hottest jobs right now, strongest first
+     */
+    public synchronized List<Long> trending(int limit) {
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(null);
+        List<Long> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int i = entries.size() - 1; i >= 0 && result.size() < limit; i--) {
+            result.add(entries.get(i).jobId);
+        }
+        return result;
+    }
+
+    /**
+     * Persist the current top jobs with their scores decayed to now
+     */
+    @Scheduled(fixedDelayString = "${jobs.trending.checkpoint-interval-ms:300000}",
+            initialDelayString = "${jobs.trending.checkpoint-interval-ms:300000}")
+    @Transactional
+    public void checkpoint() {
+        StringBuilder jobIds = new StringBuilder();
+        StringBuilder scores = new StringBuilder();
+        LocalDateTime scoredAt;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            double decay = Math.exp(-decayPerMilli * (now - landmark));
+            scoredAt = LocalDateTime.now();
+            for (Map.Entry<Long, Double> entry : top.entrySet()) {
+                if (jobIds.length() > 0) {
+                    jobIds.append(',');
+                    scores.append(',');
+                }
+                jobIds.append(entry.getKey());
+                scores.append(entry.getValue() * decay);
+            }
+        }
+        trendingScoreRepository.deleteAllExcept(jobIds.toString());
+        if (jobIds.length() > 0) {
+            trendingScoreRepository.upsertAll(jobIds.toString(), scores.toString(), scoredAt);
+        }
+    }
+
+    /**
+     * Seed the counters from the last checkpoint, decaying each score for the time since it was written
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+        for (JobTrendingScore saved : trendingScoreRepository.findAll()) {
+            long age = Math.max(0, Duration.between(saved.getScoredAt(), now).toMillis());
+            record(saved.getJobId(), saved.getScore() * Math.exp(-decayPerMilli * age), nowMillis);
+        }
+    }
+
+    private synchronized void record(Long jobId, double weight, long now) {
+        if (decayPerMilli * (now - landmark) > MAX_EXPONENT) {
+            rescale(now);
+        }
+        double increment = weight * Math.exp(decayPerMilli * (now - landmark));
+
+        // Conservative update: only raise the counters that are at the current minimum
+        double estimate = estimate(jobId) + increment;
+        for (int row = 0; row < DEPTH; row++) {
+            int col = slot(jobId, row);
+            if (sketch[row][col] < estimate) {
+                sketch[row][col] = estimate;
+            }
+        }
+
+        Double previous = top.get(jobId);
+        if (previous != null) {
+            heap.remove(new Entry(jobId, previous));
+        } else if (top.size() >= topK) {
+            if (heap.peek().score >= estimate) {
+                return;
+            }
+            top.remove(heap.poll().jobId);
+        }
+        top.put(jobId, estimate);
+        heap.add(new Entry(jobId, estimate));
+    }
+
+    private double estimate(Long jobId) {
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, sketch[row][slot(jobId, row)]);
+        }
+        return min;
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-decayPerMilli * (now - landmark));
+        for (double[] row : sketch) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+        List<Entry> entries = new ArrayList<>(heap);
+        heap.clear();
+        for (Entry entry : entries) {
+            double score = entry.score * factor;
+            top.put(entry.jobId, score);
+            heap.add(new Entry(entry.jobId, score));
+        }
+        landmark = now;
+    }
+
+    private int slot(long jobId, int row) {
+        long h = (jobId ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        private final Long jobId;
+        private final double score;
+
+        private Entry(Long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : jobId.compareTo(other.jobId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) o;
+            return jobId.equals(other.jobId) && score == other.score;
+        }
+
+        @Override
+        public int hashCode() {
+            return jobId.hashCode();
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.example.demo.service;
 
 import com.example.demo.dto.ApplicationStatusUpdateRequest;
 import com.example.demo.dto.RecruiterApplicationResponse;
+import com.example.demo.entity.ApplicationStatusChange;
 import com.example.demo.entity.CandidateProfile;
 import com.example.demo.entity.Job;
 import com.example.demo.entity.JobApplication;
 import com.example.demo.entity.User;
+import com.example.demo.repository.ApplicationStatusChangeRepository;
 import com.example.demo.repository.CandidateProfileRepository;
 import com.example.demo.repository.JobApplicationRepository;
 import com.example.demo.repository.JobRepository;
@@ -15,7 +17,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,15 +30,21 @@ public class RecruiterApplicationService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final CandidateProfileRepository profileRepository;
+    private final DashboardCounterService counterService;
+    private final ApplicationStatusChangeRepository statusChangeRepository;
 
     public RecruiterApplicationService(JobApplicationRepository applicationRepository,
                                       JobRepository jobRepository,
                                       UserRepository userRepository,
-                                      CandidateProfileRepository profileRepository) {
+                                      CandidateProfileRepository profileRepository,
+                                      DashboardCounterService counterService,
+                                      ApplicationStatusChangeRepository statusChangeRepository) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
+        this.counterService = counterService;
+        this.statusChangeRepository = statusChangeRepository;
     }
 
     public Page<RecruiterApplicationResponse> getApplications(Long recruiterId, Pageable pageable) {
@@ -87,8 +97,17 @@ public class RecruiterApplicationService {
             throw new RuntimeException("You don't have permission to update this application");
         }
 
+        String previousStatus = application.getStatus();
         application.setStatus(request.getStatus());
+        if (!Objects.equals(previousStatus, application.getStatus())) {
+            LocalDateTime now = LocalDateTime.now();
+            application.setStatusChangedAt(now);
+            // The analytics rollup counts every transition from this log, not just the latest status
+            statusChangeRepository.save(new ApplicationStatusChange(application.getId(), application.getJob().getId(),
+                    application.getStatus(), now));
+        }
         application = applicationRepository.save(application);
+        counterService.applicationStatusChanged(recruiterId, previousStatus, application.getStatus());
 
         return mapToResponse(application);
     }
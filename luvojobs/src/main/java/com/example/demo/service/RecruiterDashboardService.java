@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.RecruiterDashboardStatsResponse;
+import com.example.demo.entity.RecruiterStats;
 import com.example.demo.entity.User;
 import com.example.demo.repository.*;
 import org.springframework.stereotype.Service;
@@ -13,51 +14,37 @@ import java.time.LocalDateTime;
 public class RecruiterDashboardService {
 
     private final UserRepository userRepository;
-    private final JobRepository jobRepository;
-    private final JobApplicationRepository applicationRepository;
     private final InterviewRepository interviewRepository;
+    private final DashboardCounterService counterService;
 
     public RecruiterDashboardService(UserRepository userRepository,
-                                     JobRepository jobRepository,
-                                     JobApplicationRepository applicationRepository,
-                                     InterviewRepository interviewRepository) {
+                                     InterviewRepository interviewRepository,
+                                     DashboardCounterService counterService) {
         this.userRepository = userRepository;
-        this.jobRepository = jobRepository;
-        this.applicationRepository = applicationRepository;
         this.interviewRepository = interviewRepository;
+        this.counterService = counterService;
     }
 
     public RecruiterDashboardStatsResponse getDashboardStats(Long recruiterId) {
         User recruiter = userRepository.findById(recruiterId)
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
 
-        RecruiterDashboardStatsResponse stats = new RecruiterDashboardStatsResponse();
-
-        stats.setTotalJobs(jobRepository.countByRecruiter(recruiter));
-        stats.setActiveJobs(jobRepository.countByRecruiterAndStatus(recruiter, "active"));
-        stats.setTotalApplications(applicationRepository.countByJob_Recruiter(recruiter));
-        stats.setPendingApplications(
-                applicationRepository.countByJob_RecruiterAndStatus(recruiter, "pending") +
-                applicationRepository.countByJob_RecruiterAndStatus(recruiter, "reviewing")
-        );
-        stats.setShortlisted(applicationRepository.countByJob_RecruiterAndStatus(recruiter, "shortlisted"));
-        stats.setHired(applicationRepository.countByJob_RecruiterAndStatus(recruiter, "hired"));
-        stats.setRejected(applicationRepository.countByJob_RecruiterAndStatus(recruiter, "rejected"));
-
-        // Get unique candidates count
-        long uniqueCandidates = applicationRepository.findByJob_Recruiter(recruiter).stream()
-                .map(app -> app.getCandidate().getId())
-                .distinct()
-                .count();
-        stats.setTotalCandidates(uniqueCandidates);
-
-        // Get upcoming interviews
-        long upcomingInterviews = interviewRepository.findByRecruiterAndScheduledDateAfter(recruiter, LocalDateTime.now())
-                .stream()
-                .filter(interview -> "scheduled".equals(interview.getStatus()))
-                .count();
-        stats.setUpcomingInterviews(upcomingInterviews);
+        // Counters are a primary-key lookup on recruiter_stats
+        RecruiterStats counters = counterService.getRecruiterStats(recruiter.getId());
 
+        RecruiterDashboardStatsResponse stats = new RecruiterDashboardStatsResponse();
+        stats.setTotalJobs(counters.getTotalJobs());
+        stats.setActiveJobs(counters.getActiveJobs());
+        stats.setTotalApplications(counters.getTotalApplications());
+        stats.setPendingApplications(counters.getPendingApplications());
+        stats.setShortlisted(counters.getShortlisted());
+        stats.setHired(counters.getHired());
+        stats.setRejected(counters.getRejected());
+        stats.setTotalCandidates(counters.getTotalCandidates());
+
+        // Depends on the clock rather than on writes, so it stays a query (an index range count)
+        stats.setUpcomingInterviews(interviewRepository.countByRecruiterAndStatusAndScheduledDateAfter(
+                recruiter, "scheduled", LocalDateTime.now()));
         return stats;
     }
 }
@@ -1,20 +1,29 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CandidateMatchResponse;
 import com.example.demo.dto.JobRequest;
 import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.CandidateProfile;
 import com.example.demo.entity.Job;
 import com.example.demo.entity.User;
+import com.example.demo.repository.CandidateProfileRepository;
 import com.example.demo.repository.JobApplicationRepository;
 import com.example.demo.repository.JobRepository;
 import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,12 +32,52 @@ public class RecruiterJobService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final JobApplicationRepository applicationRepository;
+    private final JobSearchIndex searchIndex;
+    private final JobFacetIndex facetIndex;
+    private final JobSuggestIndex suggestIndex;
+    private final JobSearchCache searchCache;
+    private final JobMatchCatalog matchCatalog;
+    private final JobMatchScoreService matchScoreService;
+    private final JobMatchScoreWorker matchScoreWorker;
+    private final CandidateMatchIndex candidateIndex;
+    private final JobMatchScorer matchScorer;
+    private final CandidateProfileRepository profileRepository;
+    private final SkillNormalizer skillNormalizer;
+    private final JobSimilarityIndex similarityIndex;
+    private final DashboardCounterService counterService;
+
+    // Estimated Jaccard similarity above which two postings count as the same job
+    @Value("${jobs.duplicates.threshold:0.85}")
+    private double duplicateThreshold;
+
+    @Value("${jobs.duplicates.reject:false}")
+    private boolean rejectDuplicates;
 
     public RecruiterJobService(JobRepository jobRepository, UserRepository userRepository,
-                               JobApplicationRepository applicationRepository) {
+                               JobApplicationRepository applicationRepository, JobSearchIndex searchIndex,
+                               JobFacetIndex facetIndex, JobSuggestIndex suggestIndex,
+                               JobSearchCache searchCache, JobMatchCatalog matchCatalog,
+                               JobMatchScoreService matchScoreService, JobMatchScoreWorker matchScoreWorker,
+                               CandidateMatchIndex candidateIndex,
+                               JobMatchScorer matchScorer, CandidateProfileRepository profileRepository,
+                               SkillNormalizer skillNormalizer, JobSimilarityIndex similarityIndex,
+                               DashboardCounterService counterService) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.suggestIndex = suggestIndex;
+        this.searchCache = searchCache;
+        this.matchCatalog = matchCatalog;
+        this.matchScoreService = matchScoreService;
+        this.matchScoreWorker = matchScoreWorker;
+        this.candidateIndex = candidateIndex;
+        this.matchScorer = matchScorer;
+        this.profileRepository = profileRepository;
+        this.skillNormalizer = skillNormalizer;
+        this.similarityIndex = similarityIndex;
+        this.counterService = counterService;
     }
 
     public JobResponse createJob(Long recruiterId, JobRequest request) {
@@ -45,6 +94,7 @@ public class RecruiterJobService {
         job.setDescription(request.getDescription());
         job.setRequirements(request.getRequirements() != null ? request.getRequirements() : new ArrayList<>());
         job.setRequiredSkills(request.getRequiredSkills() != null ? request.getRequiredSkills() : new ArrayList<>());
+        job.setCanonicalSkills(new HashSet<>(skillNormalizer.normalizeAll(request.getRequiredSkills())));
         job.setSalary(request.getSalary());
         job.setCareerTrack(request.getCareerTrack());
         job.setDeadline(request.getDeadline());
@@ -53,8 +103,21 @@ public class RecruiterJobService {
         job.setPostedDate(LocalDate.now());
         job.setViews(0);
 
-        job = jobRepository.save(job);
-        return mapToResponse(job);
+        List<Long> duplicates = findNearDuplicates(job);
+
+        job = jobRepository.saveAndFlush(job);
+        counterService.jobCreated(recruiterId, job.getStatus());
+        jobRepository.refreshSearchVector(job.getId());
+        reindexAfterCommit(job);
+        // Queued after the catalog update above, so the rescoring sees the new version of the job
+        matchScoreWorker.refreshJob(job.getId());
+
+        JobResponse response = mapToResponse(job);
+        if (!duplicates.isEmpty()) {
+            response.setDuplicateWarning("This job looks like a near-duplicate of your active job(s) " + duplicates);
+            response.setDuplicateOfJobIds(duplicates);
+        }
+        return response;
     }
 
     public JobResponse updateJob(Long recruiterId, Long jobId, JobRequest request) {
@@ -65,6 +128,7 @@ public class RecruiterJobService {
             throw new RuntimeException("You don't have permission to update this job");
         }
 
+        String previousStatus = job.getStatus();
         job.setTitle(request.getTitle());
         job.setCompany(request.getCompany());
         job.setLocation(request.getLocation());
@@ -73,6 +137,7 @@ public class RecruiterJobService {
         job.setDescription(request.getDescription());
         job.setRequirements(request.getRequirements() != null ? request.getRequirements() : new ArrayList<>());
         job.setRequiredSkills(request.getRequiredSkills() != null ? request.getRequiredSkills() : new ArrayList<>());
+        job.setCanonicalSkills(new HashSet<>(skillNormalizer.normalizeAll(request.getRequiredSkills())));
         job.setSalary(request.getSalary());
         job.setCareerTrack(request.getCareerTrack());
         job.setDeadline(request.getDeadline());
@@ -81,8 +146,21 @@ public class RecruiterJobService {
         }
         job.setFruvoCoinRequired(request.getFruvoCoinRequired());
 
-        job = jobRepository.save(job);
-        return mapToResponse(job);
+        List<Long> duplicates = findNearDuplicates(job);
+
+        job = jobRepository.saveAndFlush(job);
+        counterService.jobStatusChanged(recruiterId, previousStatus, job.getStatus());
+        jobRepository.refreshSearchVector(job.getId());
+        reindexAfterCommit(job);
+        // Queued after the catalog update above, so the rescoring sees the new version of the job
+        matchScoreWorker.refreshJob(job.getId());
+
+        JobResponse response = mapToResponse(job);
+        if (!duplicates.isEmpty()) {
+            response.setDuplicateWarning("This job looks like a near-duplicate of your active job(s) " + duplicates);
+            response.setDuplicateOfJobIds(duplicates);
+        }
+        return response;
     }
 
     public void deleteJob(Long recruiterId, Long jobId) {
@@ -94,6 +172,16 @@ public class RecruiterJobService {
         }
 
         jobRepository.delete(job);
+        counterService.jobDeleted(recruiterId, job.getStatus());
+        matchScoreService.removeJob(jobId);
+        AfterCommit.run(() -> {
+            searchIndex.remove(jobId);
+            facetIndex.remove(jobId);
+            suggestIndex.remove(jobId);
+            matchCatalog.remove(jobId);
+            similarityIndex.remove(jobId);
+            searchCache.invalidate();
+        });
     }
 
     public Page<JobResponse> getRecruiterJobs(Long recruiterId, Pageable pageable) {
@@ -123,6 +211,73 @@ public class RecruiterJobService {
         return mapToResponse(job);
     }
 
+    /**
+     * Candidates ranked by how well their profile matches one of the recruiter's jobs
+     */
+    public Page<CandidateMatchResponse> getJobMatches(Long recruiterId, Long jobId, Pageable pageable) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        if (!job.getRecruiter().getId().equals(recruiterId)) {
+            throw new RuntimeException("You don't have permission to view this job");
+        }
+
+        JobMatchCatalog.MatchableJob matchable = matchCatalog.get(job);
+        Page<JobMatchScorer.ScoredMatch> ranked = candidateIndex.rankCandidates(matchable, pageable);
+
+        Map<Long, CandidateProfile> profilesById = profileRepository.findAllById(
+                        ranked.getContent().stream().map(JobMatchScorer.ScoredMatch::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(CandidateProfile::getId, Function.identity()));
+
+        List<CandidateMatchResponse> content = new ArrayList<>(ranked.getContent().size());
+        for (JobMatchScorer.ScoredMatch match : ranked.getContent()) {
+            CandidateProfile profile = profilesById.get(match.getId());
+            JobMatchScorer.MatchableCandidate candidate = candidateIndex.get(match.getId());
+            if (profile == null || candidate == null) {
+                continue;
+            }
+            CandidateMatchResponse response = new CandidateMatchResponse();
+            response.setProfileId(profile.getId());
+            response.setUserId(profile.getUser().getId());
+            response.setName(profile.getFullName() != null ? profile.getFullName() : profile.getUser().getUsername());
+            response.setCareerTrack(profile.getPreferredCareerTrack());
+            response.setExperienceLevel(profile.getExperienceLevel());
+            response.setMatchScore(match.getScore());
+            response.setMatchedSkills(matchScorer.matchedSkills(matchable, candidate));
+            content.add(response);
+        }
+        return new PageImpl<>(content, pageable, ranked.getTotalElements());
+    }
+
+    /**
+     * Refresh the in-memory indexes and drop cached pages once the job write has committed
+     */
+    private void reindexAfterCommit(Job job) {
+        AfterCommit.run(() -> {
+            searchIndex.index(job);
+            facetIndex.index(job);
+            suggestIndex.index(job);
+            matchCatalog.index(job);
+            similarityIndex.index(job);
+            searchCache.invalidate();
+        });
+    }
+
+    /**
+     * The recruiter's other active jobs this one nearly duplicates. Throws when duplicates are rejected.
+     */
+    private List<Long> findNearDuplicates(Job job) {
+        if (!"active".equals(job.getStatus())) {
+            return List.of();
+        }
+        List<Long> duplicates = similarityIndex.nearDuplicates(job, job.getRecruiter().getId(), duplicateThreshold);
+        if (!duplicates.isEmpty() && rejectDuplicates) {
+            throw new RuntimeException("This job is a near-duplicate of your active job(s) " + duplicates);
+        }
+        return duplicates;
+    }
+
     private JobResponse mapToResponse(Job job) {
         JobResponse response = new JobResponse();
         response.setId(job.getId());
@@ -143,7 +298,7 @@ public class RecruiterJobService {
         response.setViews(job.getViews());
         
         // Get application count
-        long applicationCount = applicationRepository.findByJob(job).size();
+        long applicationCount = applicationRepository.countByJob(job);
         // Note: We can't set applicationCount directly in JobResponse, but we can add it if needed
         
         return response;
@@ -18,11 +18,14 @@ public class ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final UserRepository userRepository;
+    private final DashboardCounterService counterService;
 
     public ResourceService(ResourceRepository resourceRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          DashboardCounterService counterService) {
         this.resourceRepository = resourceRepository;
         this.userRepository = userRepository;
+        this.counterService = counterService;
     }
 
     public ResourceResponse createResource(Long counselorId, ResourceRequest request) {
@@ -39,6 +42,7 @@ public class ResourceService {
         resource.setIsFeatured(request.getIsFeatured() != null ? request.getIsFeatured() : false);
 
         resource = resourceRepository.save(resource);
+        counterService.resourceCreated(counselorId, resource.getIsFeatured());
         return mapToResponse(resource);
     }
 
@@ -50,6 +54,7 @@ public class ResourceService {
             throw new RuntimeException("You don't have permission to update this resource");
         }
 
+        Boolean wasFeatured = resource.getIsFeatured();
         resource.setTitle(request.getTitle());
         resource.setDescription(request.getDescription());
         resource.setType(request.getType());
@@ -60,6 +65,7 @@ public class ResourceService {
         }
 
         resource = resourceRepository.save(resource);
+        counterService.resourceFeaturedChanged(counselorId, wasFeatured, resource.getIsFeatured());
         return mapToResponse(resource);
     }
 
@@ -72,6 +78,7 @@ public class ResourceService {
         }
 
         resourceRepository.delete(resource);
+        counterService.resourceDeleted(counselorId, resource.getIsFeatured());
     }
 
     public List<ResourceResponse> getResources(Long counselorId) {
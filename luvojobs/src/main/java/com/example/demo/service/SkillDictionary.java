@@ -0,0 +1,74 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical skill dictionary mapping each distinct skill to a dense int id,
+ * so skill sets can be stored as bitsets and compared with AND + popcount.
+ */
+@Component
+public class SkillDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Id of the skill, assigning the next free id the first time it is seen
+     */
+    public int idOf(String skill) {
+        return ids.computeIfAbsent(canonical(skill), key -> {
+            synchronized (names) {
+                names.add(key);
+                return names.size() - 1;
+            }
+        });
+    }
+
+    /**
+     * Canonical name for an id handed out by {@link #idOf(String)}
+     */
+    public String nameOf(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    /**
+     * Encode a collection of skills as a bitset of their ids
+     */
+    public BitSet encode(Collection<String> skills) {
+        BitSet bits = new BitSet();
+        if (skills == null) {
+            return bits;
+        }
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                bits.set(idOf(skill));
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Canonical names of the skills in a bitset, in id order
+     */
+    public List<String> decode(BitSet bits) {
+        List<String> skills = new ArrayList<>(bits.cardinality());
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            skills.add(nameOf(id));
+        }
+        return skills;
+    }
+
+    private static String canonical(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Turns free-text skill names into canonical form: case folding, punctuation stripping,
+ * version suffixes (java 17 -> java) and the alias table in skill-aliases.properties
+ * (k8s -> kubernetes, reactjs -> react, ...).
+ * Runs when profiles and jobs are written so matching only compares canonical names.
+ */
+@Component
+public class SkillNormalizer {
+
+    private static final String ALIASES_FILE = "/skill-aliases.properties";
+
+    // Shorter final words keep their digits: s3, ec2, db2 are products, not versions
+    private static final int MIN_VERSIONED_LENGTH = 3;
+
+    private final Map<String, String> aliases = new HashMap<>();
+
+    public SkillNormalizer() {
+        Properties properties = new Properties();
+        try (InputStream in = SkillNormalizer.class.getResourceAsStream(ALIASES_FILE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load skill aliases", e);
+        }
+        for (String alias : properties.stringPropertyNames()) {
+            aliases.put(fold(alias), fold(properties.getProperty(alias)));
+        }
+    }
+
+    /**
+     * Canonical name of a skill, or an empty string if nothing is left after stripping
+     */
+    public String normalize(String skill) {
+        String folded = fold(skill);
+        String canonical = aliases.get(folded);
+        if (canonical != null) {
+            return canonical;
+        }
+        String unversioned = stripVersion(folded);
+        return aliases.getOrDefault(unversioned, unversioned);
+    }
+
+    /**
+     * Canonical names of a list of skills, without blanks or duplicates, in input order
+     */
+    public List<String> normalizeAll(Collection<String> skills) {
+        Set<String> canonical = new LinkedHashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String name = normalize(skill);
+                if (!name.isEmpty()) {
+                    canonical.add(name);
+                }
+            }
+        }
+        return new ArrayList<>(canonical);
+    }
+
+    /**
+     * Drop a trailing version number, with or without a space: "java 17", "python3", "c++17".
+     * Dots are already gone, so "python 3.11" arrives as "python 311".
+     */
+    private static String stripVersion(String folded) {
+        int end = folded.length();
+        while (end > 0 && Character.isDigit(folded.charAt(end - 1))) {
+            end--;
+        }
+        if (end == folded.length()) {
+            return folded;
+        }
+        if (end > 0 && folded.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end == 0 || Character.isDigit(folded.charAt(end - 1))) {
+            return folded;
+        }
+        // Only the word the digits belong to counts: "aws s3" keeps its digits as well as "s3"
+        int wordStart = folded.lastIndexOf(' ', end - 1) + 1;
+        if (end - wordStart < MIN_VERSIONED_LENGTH) {
+            return folded;
+        }
+        return folded.substring(0, end);
+    }
+
+    /**
+     * Lowercase, drop dots inside words ("node.js" -> "nodejs"), spell out a dot that starts a word
+     * (".net" -> "dotnet"), keep '+' and '#' (c++, c#), turn any other punctuation into a single space
+     */
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder folded = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '.') {
+                boolean startsWord = (folded.length() == 0 || pendingSpace)
+                        && i + 1 < lower.length() && Character.isLetter(lower.charAt(i + 1));
+                if (startsWord) {
+                    if (pendingSpace && folded.length() > 0) {
+                        folded.append(' ');
+                    }
+                    pendingSpace = false;
+                    folded.append("dot");
+                }
+                continue;
+            }
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                if (pendingSpace && folded.length() > 0) {
+                    folded.append(' ');
+                }
+                pendingSpace = false;
+                folded.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.service;
+
+/**
+ * L2-normalized sparse vector over term ids, kept as parallel primitive arrays sorted by term id
+ */
+public final class SparseVector {
+
+    public static final SparseVector EMPTY = new SparseVector(new int[0], new float[0]);
+
+    private final int[] terms;
+    private final float[] weights;
+
+    SparseVector(int[] terms, float[] weights) {
+        this.terms = terms;
+        this.weights = weights;
+    }
+
+    public boolean isEmpty() {
+        return terms.length == 0;
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Cosine similarity of two normalized vectors: a merge over the sorted term ids
+     */
+    public float dot(SparseVector other) {
+        int[] a = terms;
+        int[] b = other.terms;
+        int i = 0;
+        int j = 0;
+        float sum = 0f;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                sum += weights[i++] * other.weights[j++];
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+}
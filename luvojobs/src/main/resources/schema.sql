@@ -0,0 +1,29 @@
+-- Full-text search document for jobs, refreshed by JobRepository.refreshSearchVector on every job write
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+UPDATE jobs j SET search_vector =
+    setweight(to_tsvector('english', coalesce(j.title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(j.company, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce((SELECT string_agg(s.skill, ' ') FROM job_required_skills s WHERE s.job_id = j.id), '')), 'C') ||
+    setweight(to_tsvector('english', coalesce(j.description, '')), 'D')
+WHERE j.search_vector IS NULL;
+
+-- Trigram indexes for typo-tolerant job search (JobRepository.fuzzySearchActiveJobs)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm ON jobs USING GIN (lower(company) gin_trgm_ops);
+
+-- Serves the "remote" location filter (lower(location) LIKE '%remote%')
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm ON jobs USING GIN (lower(location) gin_trgm_ops);
+
+-- Seed the status-change log with the latest transition of applications changed before the log existed.
+-- Rows at or before the rollup watermark are already counted; later ones are picked up by the next rollup.
+INSERT INTO application_status_changes (application_id, job_id, status, changed_at)
+SELECT a.id, a.job_id, a.status, a.status_changed_at
+FROM job_applications a
+WHERE a.status_changed_at IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM application_status_changes c WHERE c.application_id = a.id);
@@ -0,0 +1,78 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Job;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Renders the specifications against a criteria builder that prints what it is asked to build,
+ * so the filters can be checked without a database.
+ */
+class JobSpecificationsTest {
+
+	@Test
+	void noFiltersMeansEveryActiveJob() {
+		assertEquals("status = active", render(JobSpecifications.activeJobsMatching(null, null, null, null)));
+		assertEquals("status = active", render(JobSpecifications.activeJobsMatching("all", "all", "all", "all")));
+	}
+
+	@Test
+	void eachSetFilterAddsOneCondition() {
+		assertEquals("((status = active AND type = full-time) AND careerTrack = data)",
+				render(JobSpecifications.activeJobsMatching("full-time", "all", null, "data")));
+		assertEquals("((status = active AND location = Berlin) AND experienceLevel = junior)",
+				render(JobSpecifications.activeJobsMatching(null, "Berlin", "junior", "all")));
+	}
+
+	@Test
+	void remoteMatchesAnyLocationMentioningIt() {
+		assertEquals("lower(location) like %remote%", render(JobSpecifications.inLocation("remote")));
+		assertEquals("location = Remote", render(JobSpecifications.inLocation("Remote")));
+	}
+
+	private static String render(Specification<Job> spec) {
+		@SuppressWarnings("unchecked")
+		Root<Job> root = (Root<Job>) expression(Root.class, "");
+		CriteriaBuilder cb = (CriteriaBuilder) Proxy.newProxyInstance(CriteriaBuilder.class.getClassLoader(),
+				new Class<?>[]{CriteriaBuilder.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "equal" -> expression(Predicate.class, args[0] + " = " + args[1]);
+					case "like" -> expression(Predicate.class, args[0] + " like " + args[1]);
+					case "lower" -> expression(Expression.class, "lower(" + args[0] + ")");
+					case "and" -> expression(Predicate.class, "(" + flatten(args) + ")");
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+		return spec.toPredicate(root, null, cb).toString();
+	}
+
+	private static Object expression(Class<?> type, String text) {
+		Class<?>[] types = type == Path.class ? new Class<?>[]{Path.class} : new Class<?>[]{type, Path.class};
+		return Proxy.newProxyInstance(type.getClassLoader(), types, (proxy, method, args) -> {
+			if (method.getName().equals("get")) {
+				return expression(Path.class, args[0].toString());
+			}
+			if (method.getName().equals("toString")) {
+				return text;
+			}
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+	private static String flatten(Object[] args) {
+		return Arrays.stream(args)
+				.flatMap(arg -> arg instanceof Object[] array ? Arrays.stream(array) : Stream.of(arg))
+				.map(Object::toString)
+				.collect(Collectors.joining(" AND "));
+	}
+}
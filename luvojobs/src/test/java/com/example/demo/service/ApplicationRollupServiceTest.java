@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ApplicationTimeseriesResponse;
+import com.example.demo.entity.ApplicationRollup;
+import com.example.demo.entity.RollupWatermark;
+import com.example.demo.repository.ApplicationRollupRepository;
+import com.example.demo.repository.RollupWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationRollupServiceTest {
+
+	private ApplicationRollupRepository rollupRepository;
+	private RollupWatermarkRepository watermarkRepository;
+	private ApplicationRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		rollupRepository = mock(ApplicationRollupRepository.class);
+		watermarkRepository = mock(RollupWatermarkRepository.class);
+		service = new ApplicationRollupService(rollupRepository, watermarkRepository, 60_000);
+	}
+
+	@Test
+	void rollUpAdvancesTheWatermarkToNowMinusTheLag() {
+		LocalDateTime from = LocalDateTime.now().minusHours(1);
+		RollupWatermark watermark = new RollupWatermark("application_rollups", from);
+		when(watermarkRepository.findForUpdate("application_rollups")).thenReturn(Optional.of(watermark));
+
+		LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+		service.rollUp();
+		LocalDateTime after = LocalDateTime.now().minusMinutes(1);
+
+		LocalDateTime to = watermark.getWatermark();
+		assertTrue(!to.isBefore(before) && !to.isAfter(after));
+		for (String granularity : List.of(ApplicationRollupService.HOUR, ApplicationRollupService.DAY)) {
+			verify(rollupRepository).rollUpApplied(granularity, from, to);
+			verify(rollupRepository).rollUpStatusChanges(granularity, from, to);
+		}
+	}
+
+	@Test
+	void nothingIsRolledUpInsideTheLag() {
+		LocalDateTime recent = LocalDateTime.now().minusSeconds(10);
+		RollupWatermark watermark = new RollupWatermark("application_rollups", recent);
+		when(watermarkRepository.findForUpdate("application_rollups")).thenReturn(Optional.of(watermark));
+
+		service.rollUp();
+
+		assertEquals(recent, watermark.getWatermark());
+		verify(rollupRepository, never()).rollUpApplied(anyString(), any(), any());
+		verify(rollupRepository, never()).rollUpStatusChanges(anyString(), any(), any());
+	}
+
+	@Test
+	void timeseriesIsWidenedToWholeBuckets() {
+		LocalDateTime from = LocalDateTime.of(2026, 3, 1, 10, 30);
+		LocalDateTime to = LocalDateTime.of(2026, 3, 1, 13, 15);
+		LocalDateTime start = LocalDateTime.of(2026, 3, 1, 10, 0);
+		LocalDateTime end = LocalDateTime.of(2026, 3, 1, 14, 0);
+		ApplicationRollup rollup = new ApplicationRollup();
+		rollup.setBucketStart(start);
+		rollup.setJobId(3L);
+		rollup.setEvent("applied");
+		rollup.setEventCount(4L);
+		when(rollupRepository.findJobSeries(5L, 3L, "hour", start, end)).thenReturn(List.of(rollup));
+
+		ApplicationTimeseriesResponse response = service.getTimeseries(5L, "hour", 3L, from, to);
+
+		assertEquals(start, response.getFrom());
+		assertEquals(end, response.getTo());
+		assertEquals(1, response.getPoints().size());
+		assertEquals(4L, response.getPoints().get(0).getCount());
+		assertNull(response.getRolledUpTo());
+	}
+
+	@Test
+	void timeseriesDefaultsToTheLastThirtyDays() {
+		ApplicationTimeseriesResponse response = service.getTimeseries(5L, "day", null, null, null);
+
+		assertEquals(response.getTo().minusDays(30), response.getFrom());
+		verify(rollupRepository).findSeries(5L, "day", response.getFrom(), response.getTo());
+	}
+
+	@Test
+	void timeseriesRejectsBadRanges() {
+		LocalDateTime now = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+		assertThrows(RuntimeException.class, () -> service.getTimeseries(5L, "week", null, null, null));
+		assertThrows(RuntimeException.class, () -> service.getTimeseries(5L, "day", null, now, now.minusDays(1)));
+		assertThrows(RuntimeException.class, () -> service.getTimeseries(5L, "hour", null, now.minusDays(32), now));
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CandidateMatchIndexTest {
+
+	private CandidateProfileRepository profileRepository;
+	private JobMatchCatalog catalog;
+	private JobMatchScorer scorer;
+	private ForkJoinPool pool;
+	private CandidateMatchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		profileRepository = mock(CandidateProfileRepository.class);
+		SkillDictionary skillDictionary = new SkillDictionary();
+		SkillNormalizer skillNormalizer = new SkillNormalizer();
+		JobTextIndex textIndex = new JobTextIndex();
+		catalog = new JobMatchCatalog(mock(JobRepository.class), skillDictionary, skillNormalizer, textIndex);
+		pool = new ForkJoinPool(2);
+		scorer = new JobMatchScorer(skillDictionary, skillNormalizer, textIndex, pool);
+		index = new CandidateMatchIndex(profileRepository, scorer);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void ranksOnlyCandidatesSharingASkill() {
+		index.index(candidate(1L, List.of("java"), "", ""));
+		index.index(candidate(2L, List.of("java", "spring"), "software", "student"));
+		index.index(candidate(3L, List.of("figma"), "software", "student"));
+
+		Page<JobMatchScorer.ScoredMatch> ranked = index.rankCandidates(job("software", "entry-level", "java", "spring"),
+				PageRequest.of(0, 10));
+
+		// 30 for the track, 20 for two skills and 20 for a student on an entry-level job, against 10 for java alone
+		assertEquals(List.of(2L, 1L), ids(ranked));
+		assertEquals(List.of(70, 10), ranked.getContent().stream().map(JobMatchScorer.ScoredMatch::getScore).toList());
+		assertEquals(2, ranked.getTotalElements());
+	}
+
+	@Test
+	void pagesSkipHigherRankedCandidates() {
+		for (long id = 1; id <= 5; id++) {
+			index.index(candidate(id, List.of("java"), "", ""));
+		}
+
+		Page<JobMatchScorer.ScoredMatch> page = index.rankCandidates(job("", "", "java"), PageRequest.of(1, 2));
+
+		// Equal scores rank the newer profile first
+		assertEquals(List.of(3L, 2L), ids(page));
+		assertEquals(5, page.getTotalElements());
+		assertTrue(index.rankCandidates(job("", "", "java"), PageRequest.of(3, 2)).getContent().isEmpty());
+	}
+
+	@Test
+	void reindexingACandidateReplacesItsPostings() {
+		index.index(candidate(1L, List.of("java"), "software", ""));
+		index.index(candidate(1L, List.of("python"), "data", ""));
+
+		assertEquals(0, index.rankCandidates(job("software", "", "java"), PageRequest.of(0, 10)).getTotalElements());
+		assertEquals(List.of(1L), ids(index.rankCandidates(job("data", "", "python"), PageRequest.of(0, 10))));
+	}
+
+	@Test
+	void rebuildLoadsProfilesInBatches() {
+		when(profileRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(4L, 9L));
+		List<Object[]> attributes = new ArrayList<>();
+		attributes.add(new Object[]{4L, "Software", "Student", "Backend developer", "java", "Java"});
+		attributes.add(new Object[]{4L, "Software", "Student", "Backend developer", null, "Spring Boot"});
+		attributes.add(new Object[]{9L, null, null, null, null, null});
+		when(profileRepository.findMatchingAttributesByIdIn(List.of(4L, 9L))).thenReturn(attributes);
+
+		index.rebuild();
+
+		JobMatchScorer.MatchableCandidate loaded = index.get(4L);
+		assertNotNull(loaded);
+		assertEquals("software", loaded.getPreferredTrack());
+		assertEquals("student", loaded.getExperienceLevel());
+		assertEquals(2, loaded.getSkills().cardinality());
+		assertTrue(index.get(9L).getSkills().isEmpty());
+		assertEquals(List.of(4L), ids(index.rankCandidates(job("software", "", "java"), PageRequest.of(0, 10))));
+	}
+
+	private JobMatchScorer.MatchableCandidate candidate(Long id, List<String> skills, String track, String experienceLevel) {
+		return scorer.candidateOf(id, skills, track, experienceLevel, "");
+	}
+
+	private JobMatchCatalog.MatchableJob job(String careerTrack, String experienceLevel, String... skills) {
+		Job job = new Job("Engineer", "Acme", "Remote", "full-time", experienceLevel, "");
+		job.setId(100L);
+		job.setCareerTrack(careerTrack);
+		job.getRequiredSkills().addAll(List.of(skills));
+		return catalog.get(job);
+	}
+
+	private static List<Long> ids(Page<JobMatchScorer.ScoredMatch> page) {
+		return page.getContent().stream().map(JobMatchScorer.ScoredMatch::getId).toList();
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CounselorDashboardStatsResponse;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CounselorStatsRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.RecruiterStatsRepository;
+import com.example.demo.repository.StudentRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CounselorDashboardServiceTest {
+
+	private UserRepository userRepository;
+	private StudentRepository studentRepository;
+	private CounselorStatsRepository statsRepository;
+	private CounselorDashboardService service;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		studentRepository = mock(StudentRepository.class);
+		statsRepository = mock(CounselorStatsRepository.class);
+		when(statsRepository.seed(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+				anyLong(), anyLong())).thenReturn(1);
+		service = new CounselorDashboardService(userRepository,
+				new DashboardCounterService(mock(RecruiterStatsRepository.class), statsRepository, mock(JobRepository.class),
+						studentRepository,
+						new DashboardStatsCache(60_000, 60_000, 100, Runnable::run, new SimpleMeterRegistry()),
+						mock(PlatformTransactionManager.class)));
+
+		User counselor = new User();
+		counselor.setId(9L);
+		when(userRepository.findById(9L)).thenReturn(Optional.of(counselor));
+	}
+
+	@Test
+	void everyCardComesFromTheGroupedCounts() {
+		grouped(
+				"student", "active", 6L,
+				"student", "graduated", 2L,
+				"student", null, 1L,
+				"session", "scheduled", 3L,
+				"session", "completed", 10L,
+				"plan", "active", 2L,
+				"plan", "completed", 5L,
+				"resource", "featured", 1L,
+				"resource", "other", 4L);
+
+		CounselorDashboardStatsResponse stats = service.getDashboardStats(9L);
+
+		// students, active, sessions, scheduled, plans, active plans, resources, featured
+		assertEquals(Arrays.asList(9L, 6L, 13L, 3L, 7L, 2L, 5L, 1L), Arrays.asList(stats.getTotalStudents(),
+				stats.getActiveStudents(), stats.getTotalSessions(), stats.getScheduledSessions(),
+				stats.getTotalCareerPlans(), stats.getActiveCareerPlans(), stats.getTotalResources(),
+				stats.getFeaturedResources()));
+		verify(statsRepository).seed(9L, 9, 6, 13, 3, 7, 2, 5, 1);
+	}
+
+	@Test
+	void newCounselorSeesZeros() {
+		grouped();
+
+		CounselorDashboardStatsResponse stats = service.getDashboardStats(9L);
+
+		assertEquals(0L, stats.getTotalStudents());
+		assertEquals(0L, stats.getScheduledSessions());
+		assertEquals(0L, stats.getFeaturedResources());
+	}
+
+	@Test
+	void unknownCounselorIsRejectedBeforeCounting() {
+		RuntimeException e = assertThrows(RuntimeException.class, () -> service.getDashboardStats(8L));
+
+		assertEquals("Counselor not found", e.getMessage());
+		verifyNoInteractions(studentRepository, statsRepository);
+	}
+
+	// Rows of countCounselorDashboardByStatus, given as kind, status, count triples
+	private void grouped(Object... cells) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < cells.length; i += 3) {
+			rows.add(new Object[]{cells[i], cells[i + 1], cells[i + 2]});
+		}
+		when(studentRepository.countCounselorDashboardByStatus(9L)).thenReturn(rows);
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.RecruiterDashboardStatsResponse;
+import com.example.demo.entity.CounselorStats;
+import com.example.demo.entity.RecruiterStats;
+import com.example.demo.repository.CounselorStatsRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.RecruiterStatsRepository;
+import com.example.demo.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DashboardCounterServiceTest {
+
+	private RecruiterStatsRepository recruiterStatsRepository;
+	private CounselorStatsRepository counselorStatsRepository;
+	private JobRepository jobRepository;
+	private StudentRepository studentRepository;
+	private DashboardStatsCache statsCache;
+	private DashboardCounterService service;
+
+	@BeforeEach
+	void setUp() {
+		recruiterStatsRepository = mock(RecruiterStatsRepository.class);
+		counselorStatsRepository = mock(CounselorStatsRepository.class);
+		jobRepository = mock(JobRepository.class);
+		studentRepository = mock(StudentRepository.class);
+		statsCache = new DashboardStatsCache(60_000, 60_000, 100, Runnable::run, new SimpleMeterRegistry());
+		service = new DashboardCounterService(recruiterStatsRepository, counselorStatsRepository, jobRepository,
+				studentRepository, statsCache, mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void writesApplyADeltaToAnExistingRow() {
+		when(recruiterStatsRepository.applyDelta(5L, 1, 1, 0, 0, 0, 0, 0, 0)).thenReturn(1);
+
+		service.jobCreated(5L, "active");
+
+		verify(recruiterStatsRepository).applyDelta(5L, 1, 1, 0, 0, 0, 0, 0, 0);
+		verify(recruiterStatsRepository, never()).seed(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong(), anyLong());
+	}
+
+	@Test
+	void statusChangesMoveBetweenBuckets() {
+		when(recruiterStatsRepository.applyDelta(5L, 0, 0, 0, -1, 0, 1, 0, 0)).thenReturn(1);
+
+		service.applicationStatusChanged(5L, "reviewing", "hired");
+
+		verify(recruiterStatsRepository).applyDelta(5L, 0, 0, 0, -1, 0, 1, 0, 0);
+	}
+
+	@Test
+	void changesWithinOneBucketTouchNothing() {
+		service.applicationStatusChanged(5L, "pending", "reviewing");
+		service.jobStatusChanged(5L, "closed", "draft");
+
+		verifyNoInteractions(recruiterStatsRepository);
+	}
+
+	@Test
+	void missingRowIsSeededFromCountsThatIncludeTheWrite() {
+		when(jobRepository.findRecruiterDashboardCounts(eq(5L), any())).thenReturn(counts(3L, 2L, 0L, 0L, 0L, 0L, 0L, 0L));
+		when(recruiterStatsRepository.seed(5L, 3, 2, 0, 0, 0, 0, 0, 0)).thenReturn(1);
+
+		service.jobCreated(5L, "active");
+
+		verify(recruiterStatsRepository).seed(5L, 3, 2, 0, 0, 0, 0, 0, 0);
+		verify(recruiterStatsRepository, times(1)).applyDelta(5L, 1, 1, 0, 0, 0, 0, 0, 0);
+	}
+
+	@Test
+	void lostSeedRaceReappliesTheDelta() {
+		when(jobRepository.findRecruiterDashboardCounts(eq(5L), any())).thenReturn(counts(3L, 2L, 0L, 0L, 0L, 0L, 0L, 0L));
+
+		service.jobCreated(5L, "active");
+
+		verify(recruiterStatsRepository, times(2)).applyDelta(5L, 1, 1, 0, 0, 0, 0, 0, 0);
+	}
+
+	@Test
+	void writesInvalidateTheCachedDashboard() {
+		when(recruiterStatsRepository.applyDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong())).thenReturn(1);
+		AtomicInteger loads = new AtomicInteger();
+		statsCache.getRecruiterStats(5L, () -> load(loads));
+
+		service.jobDeleted(5L, "active");
+		statsCache.getRecruiterStats(5L, () -> load(loads));
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void readSeedsAMissingRecruiterRow() {
+		when(jobRepository.findRecruiterDashboardCounts(eq(5L), any())).thenReturn(counts(4L, 3L, 10L, 6L, 2L, 1L, 1L, null));
+		when(recruiterStatsRepository.seed(5L, 4, 3, 10, 6, 2, 1, 1, 0)).thenReturn(1);
+
+		RecruiterStats stats = service.getRecruiterStats(5L);
+
+		assertEquals(4L, stats.getTotalJobs());
+		assertEquals(6L, stats.getPendingApplications());
+		assertEquals(0L, stats.getTotalCandidates());
+	}
+
+	@Test
+	void counselorCountsComeFromGroupedRows() {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[]{"student", "active", 3L});
+		rows.add(new Object[]{"student", "inactive", 2L});
+		rows.add(new Object[]{"session", "scheduled", 4L});
+		rows.add(new Object[]{"resource", "featured", 1L});
+		rows.add(new Object[]{"resource", "other", 5L});
+		when(studentRepository.countCounselorDashboardByStatus(9L)).thenReturn(rows);
+		when(counselorStatsRepository.seed(9L, 5, 3, 4, 4, 0, 0, 6, 1)).thenReturn(1);
+
+		CounselorStats stats = service.getCounselorStats(9L);
+
+		assertEquals(5L, stats.getTotalStudents());
+		assertEquals(3L, stats.getActiveStudents());
+		assertEquals(6L, stats.getTotalResources());
+		assertEquals(1L, stats.getFeaturedResources());
+	}
+
+	@Test
+	void reconcileCorrectsDriftedRows() {
+		RecruiterStats drifted = new RecruiterStats(5L);
+		drifted.setTotalJobs(7L);
+		RecruiterStats accurate = new RecruiterStats(6L);
+		when(recruiterStatsRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(5L, 6L));
+		when(recruiterStatsRepository.findForUpdate(5L)).thenReturn(Optional.of(drifted));
+		when(recruiterStatsRepository.findForUpdate(6L)).thenReturn(Optional.of(accurate));
+		when(jobRepository.findRecruiterDashboardCounts(eq(5L), any())).thenReturn(counts(2L, 1L, 0L, 0L, 0L, 0L, 0L, 0L));
+		when(jobRepository.findRecruiterDashboardCounts(eq(6L), any())).thenReturn(counts(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L));
+
+		service.reconcile();
+
+		assertEquals(2L, drifted.getTotalJobs());
+		assertEquals(1L, drifted.getActiveJobs());
+		assertEquals(0L, accurate.getTotalJobs());
+	}
+
+	private static List<Object[]> counts(Long... values) {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(values);
+		return rows;
+	}
+
+	private static RecruiterDashboardStatsResponse load(AtomicInteger loads) {
+		loads.incrementAndGet();
+		return new RecruiterDashboardStatsResponse();
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CounselorDashboardStatsResponse;
+import com.example.demo.dto.RecruiterDashboardStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardStatsCacheTest {
+
+	private final List<Runnable> queued = new ArrayList<>();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		queued.clear();
+		loads.set(0);
+	}
+
+	@Test
+	void freshEntriesAreServedWithoutReloading() {
+		DashboardStatsCache cache = cache(60_000, 60_000);
+
+		RecruiterDashboardStatsResponse first = cache.getRecruiterStats(1L, this::load);
+		RecruiterDashboardStatsResponse second = cache.getRecruiterStats(1L, this::load);
+
+		assertSame(first, second);
+		assertEquals(1, loads.get());
+		assertTrue(queued.isEmpty());
+	}
+
+	@Test
+	void staleEntriesAreServedWhileOneRefreshRuns() {
+		DashboardStatsCache cache = cache(0, 60_000);
+		RecruiterDashboardStatsResponse first = cache.getRecruiterStats(1L, this::load);
+
+		assertSame(first, cache.getRecruiterStats(1L, this::load));
+		assertSame(first, cache.getRecruiterStats(1L, this::load));
+		assertEquals(1, queued.size());
+
+		queued.remove(0).run();
+		RecruiterDashboardStatsResponse refreshed = cache.getRecruiterStats(1L, this::load);
+
+		assertEquals(2, loads.get());
+		assertNotSame(first, refreshed);
+	}
+
+	@Test
+	void fullRefreshQueueKeepsServingTheStaleValue() {
+		DashboardStatsCache cache = new DashboardStatsCache(0, 60_000, 100, task -> {
+			throw new RejectedExecutionException();
+		}, new SimpleMeterRegistry());
+		RecruiterDashboardStatsResponse first = cache.getRecruiterStats(1L, this::load);
+
+		assertSame(first, cache.getRecruiterStats(1L, this::load));
+		assertSame(first, cache.getRecruiterStats(1L, this::load));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		DashboardStatsCache cache = cache(60_000, 60_000);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<RecruiterDashboardStatsResponse> first = CompletableFuture.supplyAsync(
+				() -> cache.getRecruiterStats(1L, () -> {
+					loading.countDown();
+					await(release);
+					return load();
+				}));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		CompletableFuture<RecruiterDashboardStatsResponse> second = CompletableFuture.supplyAsync(
+				() -> cache.getRecruiterStats(1L, this::load));
+		Thread.sleep(50);
+		release.countDown();
+
+		assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void invalidationDropsTheEntry() {
+		DashboardStatsCache cache = cache(60_000, 60_000);
+		cache.getRecruiterStats(1L, this::load);
+		cache.getRecruiterStats(2L, this::load);
+
+		cache.invalidateRecruiter(1L);
+		cache.getRecruiterStats(1L, this::load);
+		cache.getRecruiterStats(2L, this::load);
+
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void resultOfALoadInvalidatedMidwayIsNotCached() {
+		DashboardStatsCache cache = cache(60_000, 60_000);
+
+		cache.getRecruiterStats(1L, () -> {
+			cache.invalidateRecruiter(1L);
+			return load();
+		});
+		cache.getRecruiterStats(1L, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void leastRecentlyReadUserIsEvictedPastMaxEntries() {
+		DashboardStatsCache cache = new DashboardStatsCache(60_000, 60_000, 2, queued::add, new SimpleMeterRegistry());
+		cache.getRecruiterStats(1L, this::load);
+		cache.getRecruiterStats(2L, this::load);
+		cache.getRecruiterStats(1L, this::load);
+
+		cache.getCounselorStats(3L, () -> {
+			loads.incrementAndGet();
+			return new CounselorDashboardStatsResponse();
+		});
+		assertEquals(3, loads.get());
+
+		cache.getRecruiterStats(1L, this::load);
+		assertEquals(3, loads.get());
+		cache.getRecruiterStats(2L, this::load);
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	void loaderFailuresReachTheCallerAndAreNotCached() {
+		DashboardStatsCache cache = cache(60_000, 60_000);
+
+		RuntimeException failure = assertThrows(RuntimeException.class,
+				() -> cache.getRecruiterStats(1L, () -> {
+					throw new RuntimeException("Recruiter not found");
+				}));
+		cache.getRecruiterStats(1L, this::load);
+
+		assertEquals("Recruiter not found", failure.getMessage());
+		assertEquals(1, loads.get());
+	}
+
+	private DashboardStatsCache cache(long ttlMillis, long maxStaleMillis) {
+		return new DashboardStatsCache(ttlMillis, maxStaleMillis, 100, queued::add, new SimpleMeterRegistry());
+	}
+
+	private RecruiterDashboardStatsResponse load() {
+		loads.incrementAndGet();
+		return new RecruiterDashboardStatsResponse();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobCoApplicationIndexTest {
+
+	private JobApplicationRepository applicationRepository;
+	private JobCoApplicationIndex index;
+
+	@BeforeEach
+	void setUp() {
+		applicationRepository = mock(JobApplicationRepository.class);
+		index = new JobCoApplicationIndex(applicationRepository, 20);
+	}
+
+	@Test
+	void recommendsJobsMostOftenAppliedToTogether() {
+		// Candidates 1 and 2 both applied to jobs 10 and 20; candidate 2 also applied to 30, candidate 3 to 10 and 40
+		when(applicationRepository.findCandidateIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L, 3L));
+		when(applicationRepository.findCandidateJobIdsByCandidateIdIn(List.of(1L, 2L, 3L))).thenReturn(rows(
+				new long[]{1, 20}, new long[]{1, 10},
+				new long[]{2, 30}, new long[]{2, 20}, new long[]{2, 10},
+				new long[]{3, 40}, new long[]{3, 10}));
+		index.rebuild();
+		when(applicationRepository.findJobIdsByCandidateId(9L)).thenReturn(List.of(10L));
+
+		// 20 was co-applied twice; 30 and 40 once each, the newer id first
+		assertEquals(List.of(20L, 40L, 30L), index.recommend(9L, 10));
+		assertEquals(List.of(20L), index.recommend(9L, 1));
+	}
+
+	@Test
+	void neighbourListsKeepOnlyTheStrongest() {
+		when(applicationRepository.findCandidateIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+		when(applicationRepository.findCandidateJobIdsByCandidateIdIn(List.of(1L, 2L))).thenReturn(rows(
+				new long[]{1, 20}, new long[]{1, 30}, new long[]{1, 40}, new long[]{1, 10},
+				new long[]{2, 20}, new long[]{2, 10}));
+		index = new JobCoApplicationIndex(applicationRepository, 2);
+		index.rebuild();
+		when(applicationRepository.findJobIdsByCandidateId(9L)).thenReturn(List.of(10L));
+
+		// Two neighbours are kept per job
+		assertEquals(2, index.recommend(9L, 10).size());
+		assertEquals(20L, index.recommend(9L, 10).get(0));
+	}
+
+	@Test
+	void recordedApplicationsUpdateNeighbours() {
+		when(applicationRepository.findJobIdsByCandidateId(1L)).thenReturn(List.of(20L, 10L));
+		List<Object[]> coCounts = new ArrayList<>();
+		coCounts.add(new Object[]{10L, 3L});
+		when(applicationRepository.countCoApplications(20L, List.of(10L))).thenReturn(coCounts);
+
+		index.recordApplication(1L, 20L);
+		when(applicationRepository.findJobIdsByCandidateId(9L)).thenReturn(List.of(10L));
+
+		assertEquals(List.of(20L), index.recommend(9L, 10));
+	}
+
+	@Test
+	void candidatesWithoutApplicationsGetNothing() {
+		assertTrue(index.recommend(9L, 10).isEmpty());
+	}
+
+	private static List<Object[]> rows(long[]... pairs) {
+		List<Object[]> rows = new ArrayList<>();
+		for (long[] pair : pairs) {
+			rows.add(new Object[]{pair[0], pair[1]});
+		}
+		return rows;
+	}
+}
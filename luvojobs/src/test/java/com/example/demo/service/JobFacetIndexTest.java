@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class JobFacetIndexTest {
+
+	private JobFacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobFacetIndex(mock(JobRepository.class));
+		index.index(job(1L, "full-time", "junior", "Remote - EU"));
+		index.index(job(2L, "full-time", "entry-level", "Berlin"));
+		index.index(job(3L, "internship", "entry-level", "Berlin"));
+	}
+
+	@Test
+	void countsEveryActiveJobPerValue() {
+		Map<String, Map<String, Integer>> facets = index.count(null, new HashMap<>());
+
+		assertEquals(Map.of("full-time", 2, "internship", 1), facets.get(JobFacetIndex.TYPE));
+		assertEquals(Map.of("entry-level", 2, "junior", 1), facets.get(JobFacetIndex.EXPERIENCE_LEVEL));
+		// Remote locations also land in the shared "remote" bucket
+		assertEquals(Map.of("Berlin", 2, "Remote - EU", 1, "remote", 1), facets.get(JobFacetIndex.LOCATION));
+	}
+
+	@Test
+	void valuesAreOrderedByCountDescending() {
+		Map<String, Integer> types = index.count(null, new HashMap<>()).get(JobFacetIndex.TYPE);
+
+		assertEquals(List.of("full-time", "internship"), List.copyOf(types.keySet()));
+	}
+
+	@Test
+	void selectedFilterNarrowsOtherDimensionsButNotItsOwn() {
+		Map<String, String> selected = new HashMap<>();
+		selected.put(JobFacetIndex.TYPE, "internship");
+		selected.put(JobFacetIndex.LOCATION, "all");
+
+		Map<String, Map<String, Integer>> facets = index.count(null, selected);
+
+		assertEquals(Map.of("full-time", 2, "internship", 1), facets.get(JobFacetIndex.TYPE));
+		assertEquals(Map.of("entry-level", 1), facets.get(JobFacetIndex.EXPERIENCE_LEVEL));
+		assertEquals(Map.of("Berlin", 1), facets.get(JobFacetIndex.LOCATION));
+	}
+
+	@Test
+	void countsCanBeRestrictedToMatchingJobs() {
+		Map<String, Map<String, Integer>> facets = index.count(List.of(2L, 3L, 99L), new HashMap<>());
+
+		assertEquals(Map.of("full-time", 1, "internship", 1), facets.get(JobFacetIndex.TYPE));
+		assertEquals(Map.of("Berlin", 2), facets.get(JobFacetIndex.LOCATION));
+	}
+
+	@Test
+	void reindexedAndRemovedJobsUpdateTheBitmaps() {
+		Job closed = job(3L, "internship", "entry-level", "Berlin");
+		closed.setStatus("closed");
+		index.index(closed);
+		index.remove(1L);
+		index.index(job(4L, "contract", "junior", "Paris"));
+
+		Map<String, Map<String, Integer>> facets = index.count(null, new HashMap<>());
+
+		assertEquals(Map.of("full-time", 1, "contract", 1), facets.get(JobFacetIndex.TYPE));
+		assertEquals(Map.of("Berlin", 1, "Paris", 1), facets.get(JobFacetIndex.LOCATION));
+		assertTrue(index.count(List.of(1L, 3L), new HashMap<>()).get(JobFacetIndex.TYPE).isEmpty());
+	}
+
+	private static Job job(Long id, String type, String experienceLevel, String location) {
+		Job job = new Job("Engineer", "Acme", location, type, experienceLevel, "Build things");
+		job.setId(id);
+		job.setCareerTrack("software");
+		return job;
+	}
+}
@@ -0,0 +1,154 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.CandidateProfile;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobMatchScoreRepository;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JobMatchScoreServiceTest {
+
+	private JobMatchScoreRepository scoreRepository;
+	private CandidateProfileRepository profileRepository;
+	private JobRepository jobRepository;
+	private JobMatchCatalog catalog;
+	private JobMatchScorer scorer;
+	private ForkJoinPool pool;
+	private JobMatchScoreService service;
+
+	@BeforeEach
+	void setUp() {
+		scoreRepository = mock(JobMatchScoreRepository.class);
+		profileRepository = mock(CandidateProfileRepository.class);
+		jobRepository = mock(JobRepository.class);
+		SkillDictionary skillDictionary = new SkillDictionary();
+		SkillNormalizer skillNormalizer = new SkillNormalizer();
+		JobTextIndex textIndex = new JobTextIndex();
+		pool = new ForkJoinPool(2);
+		catalog = new JobMatchCatalog(jobRepository, skillDictionary, skillNormalizer, textIndex);
+		scorer = new JobMatchScorer(skillDictionary, skillNormalizer, textIndex, pool);
+		service = new JobMatchScoreService(scoreRepository, profileRepository, jobRepository, catalog, scorer,
+				new CandidateMatchIndex(profileRepository, scorer));
+		ReflectionTestUtils.setField(service, "enabled", true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void findRankedIsNullUntilTheProfileIsMaterialized() {
+		assertNull(service.findRanked(profile(7L), PageRequest.of(0, 10)));
+		verifyNoInteractions(scoreRepository);
+	}
+
+	@Test
+	void findRankedReturnsStoredScoresInOrder() {
+		CandidateProfile profile = profile(7L);
+		profile.setMatchScoresComputedAt(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[]{3L, 80});
+		rows.add(new Object[]{1L, 40});
+		when(scoreRepository.findRankedScores(7L, PageRequest.of(0, 10))).thenReturn(rows);
+
+		List<JobMatchScorer.ScoredMatch> ranked = service.findRanked(profile, PageRequest.of(0, 10));
+
+		assertEquals(List.of(3L, 1L), ranked.stream().map(JobMatchScorer.ScoredMatch::getId).toList());
+		assertEquals(80, ranked.get(0).getScore());
+	}
+
+	@Test
+	void refreshProfileStoresOnlyPositiveScores() {
+		catalog.index(job(1L, "software", "java"));
+		catalog.index(job(2L, "design", "figma"));
+		CandidateProfile profile = profile(7L);
+
+		service.refreshProfile(profile, scorer.candidateOf(7L, List.of("java"), "software", "", ""));
+
+		verify(scoreRepository).deleteByProfileId(7L);
+		// 30 for the track plus 10 for java; the design job scores zero and is not stored
+		verify(scoreRepository).upsertForProfile(7L, "1", "40");
+		assertNotNull(profile.getMatchScoresComputedAt());
+	}
+
+	@Test
+	void refreshJobScoresEveryMaterializedProfile() {
+		Job job = job(1L, "software", "java");
+		catalog.index(job);
+		when(profileRepository.findMaterializedIdsAfter(eq(0L), any())).thenReturn(List.of(3L, 4L));
+		List<Object[]> attributes = new ArrayList<>();
+		attributes.add(new Object[]{3L, "software", "", null, "java", "Java"});
+		attributes.add(new Object[]{4L, "design", "", null, "figma", "Figma"});
+		when(profileRepository.findMatchingAttributesByIdIn(List.of(3L, 4L))).thenReturn(attributes);
+
+		service.refreshJob(job);
+
+		verify(scoreRepository).deleteByJobId(1L);
+		verify(scoreRepository).upsertForJob(1L, "3", "40");
+		verify(profileRepository).findMaterializedIdsAfter(eq(4L), any());
+	}
+
+	@Test
+	void closedOrDeletedJobsOnlyLoseTheirRows() {
+		Job closed = job(1L, "software", "java");
+		closed.setStatus("closed");
+		when(jobRepository.findById(1L)).thenReturn(Optional.of(closed));
+
+		service.refreshJob(1L);
+		service.refreshJob(2L);
+
+		verify(scoreRepository).deleteByJobId(1L);
+		verify(scoreRepository).deleteByJobId(2L);
+		verify(scoreRepository, never()).upsertForJob(anyLong(), any(), any());
+		verify(profileRepository, never()).findMaterializedIdsAfter(any(), any());
+	}
+
+	@Test
+	void disabledTableIsNeverWritten() {
+		ReflectionTestUtils.setField(service, "enabled", false);
+		catalog.index(job(1L, "software", "java"));
+
+		service.refreshProfile(profile(7L), scorer.candidateOf(7L, List.of("java"), "software", "", ""));
+		service.refreshJob(job(1L, "software", "java"));
+
+		verifyNoInteractions(scoreRepository);
+	}
+
+	private static CandidateProfile profile(Long id) {
+		CandidateProfile profile = new CandidateProfile();
+		profile.setId(id);
+		return profile;
+	}
+
+	private static Job job(Long id, String careerTrack, String skill) {
+		Job job = new Job("Engineer", "Acme", "Remote", "full-time", "senior", "");
+		job.setId(id);
+		job.setCareerTrack(careerTrack);
+		job.getRequiredSkills().add(skill);
+		return job;
+	}
+}
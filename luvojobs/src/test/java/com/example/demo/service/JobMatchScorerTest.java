@@ -0,0 +1,188 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class JobMatchScorerTest {
+
+	private SkillDictionary skillDictionary;
+	private JobMatchCatalog catalog;
+	private ForkJoinPool pool;
+	private JobMatchScorer scorer;
+
+	@BeforeEach
+	void setUp() {
+		skillDictionary = new SkillDictionary();
+		SkillNormalizer skillNormalizer = new SkillNormalizer();
+		JobTextIndex textIndex = new JobTextIndex();
+		catalog = new JobMatchCatalog(mock(JobRepository.class), skillDictionary, skillNormalizer, textIndex);
+		pool = new ForkJoinPool(4);
+		scorer = new JobMatchScorer(skillDictionary, skillNormalizer, textIndex, pool);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void dictionaryEncodesSkillsAsStableIds() {
+		BitSet first = skillDictionary.encode(List.of("Java", " spring ", ""));
+		BitSet second = skillDictionary.encode(List.of("SPRING", "java"));
+
+		assertEquals(first, second);
+		assertEquals(2, first.cardinality());
+		assertEquals(List.of("java", "spring"), skillDictionary.decode(first));
+	}
+
+	@Test
+	void scoresTrackSkillsAndExperience() {
+		JobMatchCatalog.MatchableJob job = catalog.get(job(1L, "Software", "entry-level", "Java", "Spring", "Docker"));
+		JobMatchScorer.MatchableCandidate candidate = candidate(List.of("java", "spring", "python"), "software", "Student");
+
+		// 30 for the track, 10 per shared skill, 20 for a student on an entry-level job
+		assertEquals(70, scorer.score(job, candidate));
+		assertEquals(List.of("java", "spring"), scorer.matchedSkills(job, candidate));
+	}
+
+	@Test
+	void skillPointsAreCappedAtFifty() {
+		JobMatchCatalog.MatchableJob job = catalog.get(job(1L, "Data", "senior", "sql", "python", "spark", "airflow", "dbt", "kafka"));
+		JobMatchScorer.MatchableCandidate candidate = candidate(List.of("sql", "python", "spark", "airflow", "dbt", "kafka"), "", "");
+
+		assertEquals(50, scorer.score(job, candidate));
+	}
+
+	@Test
+	void explanationNamesEachPartOfTheScore() {
+		Job posting = job(1L, "Software", "junior", "Java", "Spring", "Docker", "Kafka");
+		JobResponse response = new JobResponse();
+		response.setCareerTrack(posting.getCareerTrack());
+
+		scorer.explain(response, catalog.get(posting),
+				candidate(List.of("java", "spring", "docker", "kafka"), "software", "Junior (1-3 years)"));
+
+		assertEquals(List.of(
+				"Matches your preferred career track: Software",
+				"Matches 4 skill(s): java, spring, docker...",
+				"Suitable for junior level"), response.getMatchReasons());
+		assertEquals(4, response.getMatchedSkills().size());
+	}
+
+	@Test
+	void explanationOfAnUnrelatedJobIsEmpty() {
+		JobResponse response = new JobResponse();
+
+		scorer.explain(response, catalog.get(job(1L, "Design", "senior", "Figma")),
+				candidate(List.of("java"), "software", "junior"));
+
+		assertTrue(response.getMatchReasons().isEmpty());
+		assertTrue(response.getMatchedSkills().isEmpty());
+	}
+
+	@Test
+	void totalIsCappedAtOneHundred() {
+		assertEquals(100, JobMatchScorer.combine(5, true, 20, 15));
+		assertEquals(0, JobMatchScorer.combine(0, false, 0, 0));
+	}
+
+	@Test
+	void unrelatedCandidateScoresZero() {
+		JobMatchCatalog.MatchableJob job = catalog.get(job(1L, "Design", "senior", "figma"));
+
+		assertEquals(0, scorer.score(job, candidate(List.of("java"), "software", "junior")));
+		assertTrue(scorer.matchedSkills(job, candidate(List.of("java"), "", "")).isEmpty());
+	}
+
+	@Test
+	void parallelTopKMatchesSequentialRanking() {
+		ReflectionTestUtils.setField(scorer, "parallelThreshold", 1000);
+		List<String> skills = List.of("java", "spring", "sql", "docker", "kafka", "react");
+		List<JobMatchCatalog.MatchableJob> jobs = new ArrayList<>();
+		Random random = new Random(42);
+		for (long id = 1; id <= 10_000; id++) {
+			List<String> jobSkills = new ArrayList<>();
+			for (String skill : skills) {
+				if (random.nextInt(3) == 0) {
+					jobSkills.add(skill);
+				}
+			}
+			jobs.add(new JobMatchCatalog.MatchableJob(id, random.nextBoolean() ? "software" : "data",
+					random.nextBoolean() ? "junior" : "senior", skillDictionary.encode(jobSkills), SparseVector.EMPTY));
+		}
+		JobMatchScorer.MatchableCandidate candidate = candidate(List.of("java", "spring", "sql"), "software", "junior");
+
+		JobMatchScorer.RankedMatches parallel = scorer.parallelTopK(jobs, candidate, 50);
+		JobMatchScorer.RankedMatches sequential = scorer.topK(jobs, candidate, 50);
+
+		assertEquals(50, parallel.getMatches().size());
+		assertEquals(ids(sequential), ids(parallel));
+		assertEquals(sequential.getTotal(), parallel.getTotal());
+		for (int i = 1; i < parallel.getMatches().size(); i++) {
+			assertTrue(parallel.getMatches().get(i - 1).compareTo(parallel.getMatches().get(i)) > 0);
+		}
+	}
+
+	@Test
+	void topKBreaksTiesByNewerIdAndHandlesSmallCatalogs() {
+		JobMatchScorer.MatchableCandidate candidate = candidate(List.of("java"), "", "");
+		List<JobMatchCatalog.MatchableJob> jobs = List.of(
+				catalog.get(job(1L, "software", "senior", "java")),
+				catalog.get(job(2L, "software", "senior", "java")),
+				catalog.get(job(3L, "software", "senior", "go")));
+
+		assertEquals(List.of(2L, 1L), ids(scorer.topK(jobs, candidate, 10)));
+		assertEquals(List.of(2L), ids(scorer.topK(jobs, candidate, 1)));
+		assertTrue(scorer.topK(jobs, candidate, 0).getMatches().isEmpty());
+	}
+
+	@Test
+	void zeroScoresAreNotMatchesOnEitherPath() {
+		JobMatchScorer.MatchableCandidate candidate = candidate(List.of("java"), "", "");
+		List<JobMatchCatalog.MatchableJob> jobs = new ArrayList<>();
+		for (long id = 1; id <= 3000; id++) {
+			jobs.add(catalog.get(job(id, "software", "senior", id % 3 == 0 ? "java" : "go")));
+		}
+
+		JobMatchScorer.RankedMatches sequential = scorer.topK(jobs, candidate, 2000);
+		ReflectionTestUtils.setField(scorer, "parallelThreshold", 1000);
+		JobMatchScorer.RankedMatches parallel = scorer.parallelTopK(jobs, candidate, 2000);
+
+		// Only every third job shares a skill; the rest score zero and are left out of the page and the total
+		assertEquals(1000, sequential.getTotal());
+		assertEquals(1000, sequential.getMatches().size());
+		assertEquals(1000, parallel.getTotal());
+		assertEquals(ids(sequential), ids(parallel));
+	}
+
+	private static List<Long> ids(JobMatchScorer.RankedMatches ranked) {
+		return ranked.getMatches().stream().map(JobMatchScorer.ScoredMatch::getId).toList();
+	}
+
+	private JobMatchScorer.MatchableCandidate candidate(List<String> skills, String track, String experienceLevel) {
+		return scorer.candidateOf(1L, skills, track, experienceLevel, "");
+	}
+
+	private static Job job(Long id, String careerTrack, String experienceLevel, String... skills) {
+		Job job = new Job("Engineer", "Acme", "Remote", "full-time", experienceLevel, "");
+		job.setId(id);
+		job.setCareerTrack(careerTrack);
+		job.getRequiredSkills().addAll(List.of(skills));
+		return job;
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class JobSearchCacheTest {
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private JobSearchCache cache;
+
+	@BeforeEach
+	void setUp() {
+		loads.set(0);
+		cache = new JobSearchCache(2, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void keysIgnoreCaseAndSpacingButNotPaging() {
+		assertEquals(JobSearchCache.key("search", "  Java   Developer ", PageRequest.of(0, 10)),
+				JobSearchCache.key("search", "java developer", PageRequest.of(0, 10)));
+		assertNotEquals(JobSearchCache.key("search", "java", PageRequest.of(0, 10)),
+				JobSearchCache.key("search", "java", PageRequest.of(1, 10)));
+		assertNotEquals(JobSearchCache.key("search", "java", PageRequest.of(0, 10)),
+				JobSearchCache.key("search", "java", PageRequest.of(0, 10, Sort.by("title"))));
+		assertNotEquals(JobSearchCache.key("search", "java"), JobSearchCache.key("active", "java"));
+	}
+
+	@Test
+	void hitsAreServedUntilTheCatalogChanges() {
+		assertEquals(1, cache.getOrLoad("a", this::load));
+		assertEquals(1, cache.getOrLoad("a", this::load));
+
+		cache.invalidate();
+
+		assertEquals(2, cache.getOrLoad("a", this::load));
+	}
+
+	@Test
+	void valueLoadedAcrossAWriteIsNotStored() {
+		cache.getOrLoad("a", () -> {
+			cache.invalidate();
+			return load();
+		});
+
+		assertEquals(2, cache.getOrLoad("a", this::load));
+		assertEquals(2, cache.getOrLoad("a", this::load));
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvictedPastTheLimit() {
+		cache.getOrLoad("a", this::load);
+		cache.getOrLoad("b", this::load);
+		cache.getOrLoad("a", this::load);
+		cache.getOrLoad("c", this::load);
+
+		assertEquals(1, cache.getOrLoad("a", this::load));
+		assertEquals(4, cache.getOrLoad("b", this::load));
+	}
+
+	private Integer load() {
+		return loads.incrementAndGet();
+	}
+}
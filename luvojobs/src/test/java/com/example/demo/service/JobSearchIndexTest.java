@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+
+	private JobRepository jobRepository;
+	private JobSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = mock(JobRepository.class);
+		index = new JobSearchIndex(jobRepository);
+	}
+
+	@Test
+	void rebuildIndexesActiveJobsAndMarksReady() {
+		when(jobRepository.findAllWithSkillsByStatus("active")).thenReturn(List.of(
+				job(1L, "Java Developer", "Acme", "Spring services", "java"),
+				job(2L, "Frontend Developer", "Globex", "React apps", "javascript")));
+
+		assertFalse(index.isReady());
+		index.rebuild();
+
+		assertTrue(index.isReady());
+		assertEquals(List.of(2L, 1L), index.search("developer"));
+		assertEquals(List.of(1L), index.search("spring"));
+	}
+
+	@Test
+	void searchRequiresEveryTokenAndMatchesPrefixes() {
+		index.index(job(1L, "Java Developer", "Acme", "Build Spring services", "java"));
+		index.index(job(2L, "JavaScript Developer", "Globex", "React apps", "javascript"));
+		index.index(job(3L, "Data Analyst", "Acme", "SQL reports", "sql"));
+
+		assertEquals(List.of(2L, 1L), index.search("jav dev"));
+		assertEquals(List.of(1L), index.search("java spring"));
+		assertEquals(List.of(3L, 1L), index.search("ACME"));
+		assertEquals(List.of(), index.search("java analyst"));
+		assertEquals(List.of(), index.search("  "));
+	}
+
+	@Test
+	void keepsCPlusPlusAndCSharpTokens() {
+		index.index(job(1L, "C++ Engineer", "Acme", "Embedded work", "c++"));
+		index.index(job(2L, "C# Engineer", "Globex", ".NET services", "c#"));
+
+		assertEquals(List.of(1L), index.search("c++"));
+		assertEquals(List.of(2L), index.search("c#"));
+	}
+
+	@Test
+	void reindexReplacesOldTokens() {
+		Job job = job(1L, "Java Developer", "Acme", "Spring services", "java");
+		index.index(job);
+
+		job.setTitle("Kotlin Developer");
+		job.setRequiredSkills(List.of("kotlin"));
+		index.index(job);
+
+		assertEquals(List.of(), index.search("java"));
+		assertEquals(List.of(1L), index.search("kotlin"));
+	}
+
+	@Test
+	void inactiveAndRemovedJobsDropOut() {
+		Job closed = job(1L, "Java Developer", "Acme", "Spring services", "java");
+		index.index(closed);
+		index.index(job(2L, "Java Architect", "Globex", "Platform design", "java"));
+
+		closed.setStatus("closed");
+		index.index(closed);
+		assertEquals(List.of(2L), index.search("java"));
+
+		index.remove(2L);
+		assertEquals(List.of(), index.search("java"));
+	}
+
+	private static Job job(Long id, String title, String company, String description, String skill) {
+		Job job = new Job(title, company, "Remote", "full-time", "junior", description);
+		job.setId(id);
+		job.getRequiredSkills().add(skill);
+		return job;
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobFeedResponse;
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobServiceFeedTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+
+	// The active jobs table; the repository mock answers the two keyset queries from it
+	private final List<Job> table = new ArrayList<>();
+	private final List<Integer> requestedLimits = new ArrayList<>();
+	private JobService jobService;
+
+	@BeforeEach
+	void setUp() {
+		table.clear();
+		requestedLimits.clear();
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.findFeedByStatus(eq("active"), any())).thenAnswer(invocation ->
+				seek(job -> true, invocation.getArgument(1)));
+		when(jobRepository.findFeedByStatusAfter(eq("active"), any(), any(), any())).thenAnswer(invocation -> {
+			LocalDate postedDate = invocation.getArgument(1);
+			Long id = invocation.getArgument(2);
+			return seek(job -> job.getPostedDate().isBefore(postedDate)
+					|| (job.getPostedDate().equals(postedDate) && job.getId() < id), invocation.getArgument(3));
+		});
+
+		jobService = new JobService(jobRepository, mock(UserRepository.class), mock(CandidateProfileRepository.class),
+				new JobSearchIndex(jobRepository), new JobFacetIndex(jobRepository), mock(JobSuggestIndex.class),
+				new JobSearchCache(100, new SimpleMeterRegistry()), mock(JobMatchCatalog.class), mock(JobMatchScorer.class),
+				mock(JobMatchScoreService.class), mock(JobMatchScoreWorker.class), mock(JobSimilarityIndex.class),
+				mock(JobCoApplicationIndex.class), mock(JobTrendingTracker.class));
+	}
+
+	@Test
+	void followingTheCursorVisitsEveryJobOnceNewestFirst() {
+		// Several jobs share a posted date, so the id has to break ties across slice boundaries
+		post(1L, MONDAY);
+		post(2L, MONDAY.plusDays(1));
+		post(3L, MONDAY.plusDays(1));
+		post(4L, MONDAY.plusDays(1));
+		post(5L, MONDAY.plusDays(2));
+		post(6L, MONDAY);
+		post(7L, MONDAY.minusDays(3));
+
+		List<Long> seen = new ArrayList<>();
+		int slices = 0;
+		String cursor = null;
+		do {
+			JobFeedResponse slice = jobService.getActiveJobFeed(cursor, 2);
+			slice.getJobs().stream().map(JobResponse::getId).forEach(seen::add);
+			assertEquals(slice.getNextCursor() != null, slice.isHasMore());
+			cursor = slice.getNextCursor();
+			slices++;
+		} while (cursor != null);
+
+		assertEquals(List.of(5L, 4L, 3L, 2L, 6L, 1L, 7L), seen);
+		assertEquals(4, slices);
+	}
+
+	@Test
+	void exactlyFullLastSliceHasNoNextCursor() {
+		post(1L, MONDAY);
+		post(2L, MONDAY);
+
+		JobFeedResponse slice = jobService.getActiveJobFeed(null, 2);
+
+		assertEquals(2, slice.getJobs().size());
+		assertFalse(slice.isHasMore());
+		assertNull(slice.getNextCursor());
+		assertEquals(List.of(3), requestedLimits);
+	}
+
+	@Test
+	void sliceSizeIsClampedToTheAllowedRange() {
+		for (long id = 1; id <= 3; id++) {
+			post(id, MONDAY);
+		}
+
+		assertEquals(1, jobService.getActiveJobFeed(null, 0).getJobs().size());
+		assertEquals(1, jobService.getActiveJobFeed("", -5).getJobs().size());
+		jobService.getActiveJobFeed(null, 10_000);
+
+		assertEquals(List.of(2, 2, JobService.MAX_FEED_SIZE + 1), requestedLimits);
+	}
+
+	@Test
+	void garbledCursorsAreRejected() {
+		RuntimeException notBase64 = assertThrows(RuntimeException.class, () -> jobService.getActiveJobFeed("%%%", 10));
+		// "bm90LWEtY3Vyc29y" is "not-a-cursor"
+		RuntimeException wrongShape = assertThrows(RuntimeException.class,
+				() -> jobService.getActiveJobFeed("bm90LWEtY3Vyc29y", 10));
+
+		assertEquals("Invalid cursor", notBase64.getMessage());
+		assertEquals("Invalid cursor", wrongShape.getMessage());
+		assertTrue(requestedLimits.isEmpty());
+	}
+
+	private void post(Long id, LocalDate postedDate) {
+		Job job = new Job("Job " + id, "Acme", "Remote", "full-time", "junior", "role " + id);
+		job.setId(id);
+		job.setPostedDate(postedDate);
+		table.add(job);
+	}
+
+	private List<Job> seek(Predicate<Job> after, Pageable limit) {
+		requestedLimits.add(limit.getPageSize());
+		return table.stream()
+				.filter(after)
+				.sorted(Comparator.comparing(Job::getPostedDate).thenComparing(Job::getId).reversed())
+				.limit(limit.getPageSize())
+				.toList();
+	}
+}
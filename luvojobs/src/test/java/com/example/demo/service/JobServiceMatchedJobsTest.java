@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.CandidateProfile;
+import com.example.demo.entity.Job;
+import com.example.demo.entity.Skill;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobMatchScoreRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobServiceMatchedJobsTest {
+
+	// id, career track, experience level, required skills. The candidate below is a junior
+	// software engineer knowing java, spring and sql; the comments show what each job scores.
+	private static final Object[][] CATALOG = {
+			{1L, "software", "senior", new String[]{"java", "spring"}},       // 30 + 20       = 50
+			{2L, "data", "senior", new String[]{"python"}},                   //                  0
+			{3L, "software", "junior", new String[]{"java"}},                 // 30 + 10 + 20  = 60
+			{4L, "data", "junior", new String[]{"sql"}},                      // 10 + 20       = 30
+			{5L, "design", "senior", new String[]{"figma"}},                  //                  0
+			{6L, "data", "senior", new String[]{"java", "spring", "sql"}},    // 30            = 30
+			{7L, "software", "senior", new String[]{}},                       // 30            = 30
+			{8L, "data", "entry-level", new String[]{}},                      // 10            = 10
+	};
+	private static final List<Long> RANKED = List.of(3L, 1L, 7L, 6L, 4L, 8L);
+
+	private final Map<Long, Job> jobs = new HashMap<>();
+	private final List<Runnable> refreshes = new ArrayList<>();
+	private JobRepository jobRepository;
+	private UserRepository userRepository;
+	private JobMatchScoreRepository scoreRepository;
+	private ForkJoinPool pool;
+	private CandidateProfile profile;
+	private JobService jobService;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = mock(JobRepository.class);
+		scoreRepository = mock(JobMatchScoreRepository.class);
+		CandidateProfileRepository profileRepository = mock(CandidateProfileRepository.class);
+		userRepository = mock(UserRepository.class);
+
+		SkillDictionary skillDictionary = new SkillDictionary();
+		SkillNormalizer skillNormalizer = new SkillNormalizer();
+		JobTextIndex textIndex = new JobTextIndex();
+		pool = new ForkJoinPool(2);
+		JobMatchCatalog catalog = new JobMatchCatalog(jobRepository, skillDictionary, skillNormalizer, textIndex);
+		JobMatchScorer scorer = new JobMatchScorer(skillDictionary, skillNormalizer, textIndex, pool);
+		JobMatchScoreService scoreService = new JobMatchScoreService(scoreRepository, profileRepository, jobRepository,
+				catalog, scorer, new CandidateMatchIndex(profileRepository, scorer));
+		ReflectionTestUtils.setField(scoreService, "enabled", true);
+
+		for (Object[] row : CATALOG) {
+			Job job = new Job("Engineer " + row[0], "Acme", "Remote", "full-time", (String) row[2], "");
+			job.setId((Long) row[0]);
+			job.setCareerTrack((String) row[1]);
+			job.getRequiredSkills().addAll(List.of((String[]) row[3]));
+			jobs.put(job.getId(), job);
+			catalog.index(job);
+		}
+		when(jobRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(jobs::get).toList();
+		});
+
+		User user = new User();
+		user.setId(11L);
+		profile = new CandidateProfile();
+		profile.setId(21L);
+		profile.setUser(user);
+		profile.setPreferredCareerTrack("software");
+		profile.setExperienceLevel("junior");
+		for (String skill : List.of("Java", "Spring", "SQL")) {
+			profile.getSkills().add(new Skill(skill));
+		}
+		when(userRepository.findById(11L)).thenReturn(Optional.of(user));
+		when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
+
+		jobService = new JobService(jobRepository, userRepository, profileRepository,
+				new JobSearchIndex(jobRepository), new JobFacetIndex(jobRepository), mock(JobSuggestIndex.class),
+				new JobSearchCache(100, new SimpleMeterRegistry()), catalog, scorer, scoreService,
+				new JobMatchScoreWorker(scoreService, refreshes::add), mock(JobSimilarityIndex.class),
+				mock(JobCoApplicationIndex.class), mock(JobTrendingTracker.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void livePagesFollowOneRankingAndSkipZeroScores() {
+		List<Long> seen = new ArrayList<>();
+		for (int page = 0; page < 3; page++) {
+			Page<JobResponse> matches = jobService.getMatchedJobs(11L, PageRequest.of(page, 2), false);
+			assertEquals(RANKED.size(), matches.getTotalElements());
+			matches.getContent().forEach(job -> seen.add(job.getId()));
+		}
+
+		assertEquals(RANKED, seen);
+		assertTrue(jobService.getMatchedJobs(11L, PageRequest.of(3, 2), false).getContent().isEmpty());
+	}
+
+	@Test
+	void liveRankingQueuesOneBackgroundMaterialization() {
+		Page<JobResponse> first = jobService.getMatchedJobs(11L, PageRequest.of(0, 3), false);
+		jobService.getMatchedJobs(11L, PageRequest.of(1, 3), false);
+
+		assertEquals(List.of(60, 50, 30), first.getContent().stream().map(JobResponse::getMatchScore).toList());
+		// The second read finds the first refresh still queued
+		assertEquals(1, refreshes.size());
+		verify(scoreRepository, never()).upsertForProfile(any(), any(), any());
+	}
+
+	@Test
+	void reasonsAreOnlyBuiltWhenAskedFor() {
+		Page<JobResponse> plain = jobService.getMatchedJobs(11L, PageRequest.of(0, 2), false);
+		Page<JobResponse> explained = jobService.getMatchedJobs(11L, PageRequest.of(0, 2), true);
+
+		assertNull(plain.getContent().get(0).getMatchReasons());
+		JobResponse best = explained.getContent().get(0);
+		assertEquals(3L, best.getId());
+		assertEquals(List.of("Matches your preferred career track: software", "Matches 1 skill(s): java",
+				"Suitable for junior level"), best.getMatchReasons());
+		assertEquals(List.of("java"), best.getMatchedSkills());
+	}
+
+	@Test
+	void onlyTheReturnedPageIsLoaded() {
+		List<Collection<Long>> loaded = new ArrayList<>();
+		when(jobRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			loaded.add(List.copyOf(ids));
+			return ids.stream().map(jobs::get).toList();
+		});
+
+		Page<JobResponse> page = jobService.getMatchedJobs(11L, PageRequest.of(1, 2), true);
+
+		assertEquals(List.of(List.of(7L, 6L)), loaded);
+		assertEquals(2, page.getContent().stream().filter(job -> job.getMatchReasons() != null).count());
+	}
+
+	@Test
+	void materializedProfilesArePagedFromTheScoreTable() {
+		profile.setMatchScoresComputedAt(LocalDateTime.now());
+		List<Object[]> firstPage = new ArrayList<>();
+		firstPage.add(new Object[]{3L, 60});
+		firstPage.add(new Object[]{1L, 50});
+		List<Object[]> lastPage = new ArrayList<>();
+		lastPage.add(new Object[]{8L, 10});
+		when(scoreRepository.findRankedScores(21L, PageRequest.of(0, 2))).thenReturn(firstPage);
+		when(scoreRepository.findRankedScores(21L, PageRequest.of(2, 2))).thenReturn(lastPage);
+		when(scoreRepository.countByProfileId(21L)).thenReturn(5L);
+
+		Page<JobResponse> full = jobService.getMatchedJobs(11L, PageRequest.of(0, 2), false);
+		Page<JobResponse> shortPage = jobService.getMatchedJobs(11L, PageRequest.of(2, 2), false);
+
+		assertEquals(List.of(3L, 1L), full.getContent().stream().map(JobResponse::getId).toList());
+		assertEquals(5, full.getTotalElements());
+		// A short page is the last one, so its total needs no count query
+		assertEquals(5, shortPage.getTotalElements());
+		verify(scoreRepository).countByProfileId(21L);
+		assertTrue(refreshes.isEmpty());
+	}
+
+	@Test
+	void candidatesWithoutAProfileSeeTheActiveJobs() {
+		User newcomer = new User();
+		newcomer.setId(12L);
+		when(userRepository.findById(12L)).thenReturn(Optional.of(newcomer));
+		when(jobRepository.findByStatus(eq("active"), any()))
+				.thenReturn(new PageImpl<>(List.of(jobs.get(2L), jobs.get(5L)), PageRequest.of(0, 10), 8));
+
+		Page<JobResponse> page = jobService.getMatchedJobs(12L, PageRequest.of(0, 10), false);
+
+		assertEquals(List.of(2L, 5L), page.getContent().stream().map(JobResponse::getId).toList());
+		assertEquals(8, page.getTotalElements());
+	}
+}
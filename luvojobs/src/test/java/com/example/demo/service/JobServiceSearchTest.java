@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.FacetedJobsResponse;
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobServiceSearchTest {
+
+	private final Pageable pageable = PageRequest.of(0, 10);
+
+	private JobRepository jobRepository;
+	private JobSearchIndex searchIndex;
+	private JobFacetIndex facetIndex;
+	private JobService jobService;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = mock(JobRepository.class);
+		searchIndex = new JobSearchIndex(jobRepository);
+		facetIndex = new JobFacetIndex(jobRepository);
+		jobService = new JobService(jobRepository, mock(UserRepository.class), mock(CandidateProfileRepository.class),
+				searchIndex, facetIndex, mock(JobSuggestIndex.class),
+				new JobSearchCache(100, new SimpleMeterRegistry()), mock(JobMatchCatalog.class), mock(JobMatchScorer.class),
+				mock(JobMatchScoreService.class), mock(JobMatchScoreWorker.class), mock(JobSimilarityIndex.class),
+				mock(JobCoApplicationIndex.class), mock(JobTrendingTracker.class));
+		ReflectionTestUtils.setField(jobService, "searchMode", "index");
+		ReflectionTestUtils.setField(jobService, "fuzzySearchEnabled", true);
+		ReflectionTestUtils.setField(jobService, "fuzzySearchThreshold", 0.5);
+	}
+
+	@Test
+	void fulltextModeReturnsRankedResults() {
+		ReflectionTestUtils.setField(jobService, "searchMode", "fulltext");
+		when(jobRepository.searchActiveJobsRanked("java developer", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(2L, "Senior Java Developer"), job(1L, "Java Developer")), pageable, 2));
+
+		Page<JobResponse> results = jobService.searchJobs("java developer", pageable);
+
+		assertEquals(List.of(2L, 1L), ids(results));
+		assertEquals(2, results.getTotalElements());
+		verify(jobRepository, never()).searchActiveJobs(any(), any());
+	}
+
+	@Test
+	void indexModeFallsBackToTableScanUntilIndexIsReady() {
+		when(jobRepository.searchActiveJobs("java", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(1L, "Java Developer")), pageable, 1));
+
+		Page<JobResponse> results = jobService.searchJobs("java", pageable);
+
+		assertEquals(List.of(1L), ids(results));
+		verify(jobRepository, never()).searchActiveJobsRanked(any(), any());
+	}
+
+	@Test
+	void fallsBackToTrigramSearchWhenNothingMatches() {
+		when(jobRepository.searchActiveJobs("  Recat Developer ", pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+		when(jobRepository.fuzzySearchActiveJobs("recat developer", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(1L, "React Developer")), pageable, 1));
+
+		Page<JobResponse> results = jobService.searchJobs("  Recat Developer ", pageable);
+
+		assertEquals(List.of(1L), ids(results));
+		verify(jobRepository).setWordSimilarityThreshold("0.5");
+	}
+
+	@Test
+	void noTrigramFallbackWhenExactSearchMatches() {
+		when(jobRepository.searchActiveJobs("react", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(1L, "React Developer")), pageable, 1));
+
+		jobService.searchJobs("react", pageable);
+
+		verify(jobRepository, never()).fuzzySearchActiveJobs(any(), any());
+	}
+
+	@Test
+	void noTrigramFallbackWhenDisabled() {
+		ReflectionTestUtils.setField(jobService, "fuzzySearchEnabled", false);
+		when(jobRepository.searchActiveJobs("recat", pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+		Page<JobResponse> results = jobService.searchJobs("recat", pageable);
+
+		assertEquals(0, results.getTotalElements());
+		verify(jobRepository, never()).fuzzySearchActiveJobs(any(), any());
+	}
+
+	@Test
+	void facetsCountEveryMatchNotJustTheReturnedPage() {
+		Job first = job(1L, "Java Developer");
+		Job second = job(2L, "Java Architect");
+		second.setType("contract");
+		when(jobRepository.findAllWithSkillsByStatus("active")).thenReturn(List.of(first, second, job(3L, "Data Analyst")));
+		when(jobRepository.findAllById(List.of(2L))).thenReturn(List.of(second));
+		searchIndex.rebuild();
+		for (Job job : List.of(first, second, job(3L, "Data Analyst"))) {
+			facetIndex.index(job);
+		}
+
+		FacetedJobsResponse response = jobService.searchJobsWithFacets("java", PageRequest.of(0, 1));
+
+		assertEquals(Map.of("full-time", 1, "contract", 1), response.getFacets().get(JobFacetIndex.TYPE));
+	}
+
+	@Test
+	void cachedSearchDoesNotCollectItsMatchesAgain() {
+		ReflectionTestUtils.setField(jobService, "searchMode", "like");
+		when(jobRepository.searchActiveJobs("java", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(1L, "Java Developer")), pageable, 1));
+		when(jobRepository.searchActiveJobIds("java")).thenReturn(List.of(1L));
+		facetIndex.index(job(1L, "Java Developer"));
+
+		jobService.searchJobsWithFacets("java", pageable);
+		FacetedJobsResponse cached = jobService.searchJobsWithFacets(" Java ", pageable);
+
+		assertEquals(Map.of("full-time", 1), cached.getFacets().get(JobFacetIndex.TYPE));
+		verify(jobRepository, times(1)).searchActiveJobIds("java");
+		verify(jobRepository, times(1)).searchActiveJobs("java", pageable);
+	}
+
+	@Test
+	void cachedPagesShowCurrentViewCounts() {
+		when(jobRepository.findByStatus("active", pageable))
+				.thenReturn(new PageImpl<>(List.of(job(1L, "Java Developer")), pageable, 1));
+		Page<JobResponse> first = jobService.getActiveJobs(pageable);
+		List<Object[]> views = new ArrayList<>();
+		views.add(new Object[]{1L, 12});
+		when(jobRepository.findViewsByIdIn(List.of(1L))).thenReturn(views);
+
+		Page<JobResponse> second = jobService.getActiveJobs(pageable);
+
+		assertEquals(12, second.getContent().get(0).getViews());
+		assertEquals(0, first.getContent().get(0).getViews());
+		verify(jobRepository, times(1)).findByStatus("active", pageable);
+	}
+
+	private static List<Long> ids(Page<JobResponse> page) {
+		return page.getContent().stream().map(JobResponse::getId).toList();
+	}
+
+	private static Job job(Long id, String title) {
+		Job job = new Job(title, "Acme", "Remote", "full-time", "junior", title + " role");
+		job.setId(id);
+		return job;
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Job;
+import com.example.demo.entity.User;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSimilarityIndexTest {
+
+	private static final String BACKEND = "We are looking for a backend engineer to build payment APIs in Java and Spring Boot, "
+			+ "own the PostgreSQL schema, run services on Kubernetes and mentor junior developers on code review";
+
+	private JobRepository jobRepository;
+	private JobSimilarityIndex index;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = mock(JobRepository.class);
+		index = new JobSimilarityIndex(jobRepository);
+	}
+
+	@Test
+	void findsNearIdenticalJobsButNotUnrelatedOnes() {
+		when(jobRepository.findAllWithSkillsByStatus("active")).thenReturn(List.of(
+				job(1L, 10L, "Backend Engineer", BACKEND, "java", "spring"),
+				job(2L, 10L, "Backend Engineer", BACKEND + " in Berlin", "java", "spring"),
+				job(3L, 10L, "Product Designer", "Design onboarding flows in Figma and run usability studies with customers", "figma")));
+		index.rebuild();
+
+		assertEquals(List.of(2L), index.similar(job(1L, 10L, "Backend Engineer", BACKEND, "java", "spring"), 5));
+		assertTrue(index.similar(job(9L, 10L, "Data Analyst", "Build dashboards in Tableau", "sql"), 5).isEmpty());
+	}
+
+	@Test
+	void nearDuplicatesAreLimitedToTheRecruiterAndThreshold() {
+		index.index(job(1L, 10L, "Backend Engineer", BACKEND, "java", "spring"));
+		index.index(job(2L, 20L, "Backend Engineer", BACKEND, "java", "spring"));
+		index.index(job(3L, 10L, "Backend Engineer", BACKEND + " and own the on-call rotation for the payments platform", "java", "spring"));
+
+		Job draft = job(4L, 10L, "Backend Engineer", BACKEND, "java", "spring");
+
+		assertEquals(List.of(1L), index.nearDuplicates(draft, 10L, 0.95));
+		assertEquals(List.of(1L, 3L), index.nearDuplicates(draft, 10L, 0.5));
+		assertEquals(List.of(2L), index.nearDuplicates(draft, 20L, 0.95));
+	}
+
+	@Test
+	void removedAndInactiveJobsAreNotReturned() {
+		index.index(job(1L, 10L, "Backend Engineer", BACKEND, "java"));
+		Job closed = job(2L, 10L, "Backend Engineer", BACKEND, "java");
+		index.index(closed);
+		closed.setStatus("closed");
+		index.index(closed);
+		index.remove(1L);
+
+		assertTrue(index.similar(job(3L, 10L, "Backend Engineer", BACKEND, "java"), 5).isEmpty());
+	}
+
+	@Test
+	void jobsWithoutTextAreNeverSimilar() {
+		index.index(job(1L, 10L, "", "", new String[0]));
+
+		assertTrue(index.similar(job(2L, 10L, "", "", new String[0]), 5).isEmpty());
+	}
+
+	private static Job job(Long id, Long recruiterId, String title, String description, String... skills) {
+		Job job = new Job(title, "Acme", "Remote", "full-time", "junior", description);
+		job.setId(id);
+		User recruiter = new User();
+		recruiter.setId(recruiterId);
+		job.setRecruiter(recruiter);
+		job.getRequiredSkills().addAll(List.of(skills));
+		return job;
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobSuggestionResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.repository.JobApplicationRepository;
+import com.example.demo.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSuggestIndexTest {
+
+	private JobRepository jobRepository;
+	private JobApplicationRepository applicationRepository;
+	private JobSuggestIndex index;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = mock(JobRepository.class);
+		applicationRepository = mock(JobApplicationRepository.class);
+		index = new JobSuggestIndex(jobRepository, applicationRepository);
+	}
+
+	@Test
+	void suggestsTitlesCompaniesAndSkillsByPrefix() {
+		index.index(job(1L, "Java Developer", "Javelin Labs", "Java", 0));
+
+		List<JobSuggestionResponse> suggestions = index.suggest("  JAV", 10);
+
+		assertEquals(3, suggestions.size());
+		assertEquals(List.of("company", "skill", "title"),
+				suggestions.stream().map(JobSuggestionResponse::getType).sorted().toList());
+		assertTrue(index.suggest("python", 10).isEmpty());
+		assertTrue(index.suggest(" ", 10).isEmpty());
+	}
+
+	@Test
+	void mostPopularCompletionComesFirst() {
+		index.index(job(1L, "Java Developer", "Acme", "spring", 5));
+		index.index(job(2L, "Java Architect", "Globex", "kafka", 50));
+		index.index(job(3L, "JavaScript Engineer", "Initech", "react", 0));
+
+		assertEquals(List.of("Java Architect", "Java Developer", "JavaScript Engineer"), texts(index.suggest("java", 10)));
+	}
+
+	@Test
+	void sharedTermsAddUpAcrossJobs() {
+		index.index(job(1L, "Backend Developer", "Acme", "go", 0));
+		index.index(job(2L, "Backend Developer", "Globex", "rust", 0));
+
+		JobSuggestionResponse suggestion = index.suggest("backend", 10).get(0);
+
+		assertEquals("Backend Developer", suggestion.getText());
+		assertEquals(2L, suggestion.getJobCount());
+	}
+
+	@Test
+	void limitIsCappedAtMaxSuggestions() {
+		for (long id = 1; id <= 15; id++) {
+			index.index(job(id, "Engineer " + id, "Company " + id, "skill" + id, 0));
+		}
+
+		assertEquals(2, index.suggest("engineer", 2).size());
+		assertEquals(JobSuggestIndex.MAX_SUGGESTIONS, index.suggest("engineer", 100).size());
+	}
+
+	@Test
+	void removedAndClosedJobsDropOut() {
+		Job closed = job(1L, "Java Developer", "Acme", "spring", 0);
+		index.index(closed);
+		index.index(job(2L, "Java Architect", "Globex", "kafka", 0));
+
+		closed.setStatus("closed");
+		index.index(closed);
+		assertEquals(List.of("Java Architect"), texts(index.suggest("java", 10)));
+
+		index.remove(2L);
+		assertTrue(index.suggest("j", 10).isEmpty());
+	}
+
+	@Test
+	void refreshWeightsReranksFromCurrentViewsAndApplications() {
+		index.index(job(1L, "Java Developer", "Acme", "spring", 0));
+		index.index(job(2L, "Java Architect", "Globex", "kafka", 10));
+		assertEquals(List.of("Java Architect", "Java Developer"), texts(index.suggest("java", 10)));
+
+		List<Object[]> views = new ArrayList<>();
+		views.add(new Object[]{1L, 3});
+		views.add(new Object[]{2L, 10});
+		List<Object[]> applications = new ArrayList<>();
+		applications.add(new Object[]{1L, 2L});
+		when(jobRepository.findViewsByStatus("active")).thenReturn(views);
+		when(applicationRepository.countGroupedByJob()).thenReturn(applications);
+
+		index.refreshWeights();
+
+		// 1 + 3 views + 5 per application beats 1 + 10 views
+		assertEquals(List.of("Java Developer", "Java Architect"), texts(index.suggest("java", 10)));
+	}
+
+	private static List<String> texts(List<JobSuggestionResponse> suggestions) {
+		return suggestions.stream().map(JobSuggestionResponse::getText).toList();
+	}
+
+	private static Job job(Long id, String title, String company, String skill, int views) {
+		Job job = new Job(title, company, "Remote", "full-time", "junior", "");
+		job.setId(id);
+		job.setViews(views);
+		job.getRequiredSkills().add(skill);
+		return job;
+	}
+}
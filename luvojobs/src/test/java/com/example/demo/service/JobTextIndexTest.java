@@ -0,0 +1,89 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobTextIndexTest {
+
+	private JobTextIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobTextIndex();
+		index.rebuild(Map.of(
+				1L, "Build payment services in Kotlin and PostgreSQL",
+				2L, "Design mobile screens in Figma",
+				3L, "Maintain PostgreSQL clusters and backups"));
+	}
+
+	@Test
+	void vectorsAreNormalizedAndDropStopWords() {
+		SparseVector vector = index.vectorize("Build the payment services with Kotlin");
+
+		assertEquals(4, vector.size());
+		assertEquals(1.0f, vector.dot(vector), 1e-5f);
+		assertTrue(index.vectorize("the and with you").isEmpty());
+	}
+
+	@Test
+	void similarTextScoresHigherThanUnrelatedText() {
+		SparseVector payments = index.vectorize("Kotlin payment services");
+
+		assertTrue(payments.dot(index.vectorize("payment services in Kotlin")) > 0.99f);
+		assertTrue(payments.dot(index.vectorize("PostgreSQL backups")) < 0.01f);
+		assertEquals(0f, payments.dot(index.vectorize("Figma screens")));
+	}
+
+	@Test
+	void termsUnknownToTheCorpusAreIgnored() {
+		assertTrue(index.vectorize("quantum annealing").isEmpty());
+		assertEquals(1, index.vectorize("quantum Figma").size());
+	}
+
+	@Test
+	void removedTermsArePrunedAndTheirIdsAreNotReused() {
+		SparseVector design = index.index(2L, "Design mobile screens in Figma");
+
+		index.remove(2L);
+		assertTrue(index.vectorize("Figma").isEmpty());
+
+		// A new term must not take over an id that older vectors may still hold
+		index.index(4L, "Animate onboarding flows");
+		assertEquals(0f, design.dot(index.index(5L, "Animate onboarding flows")));
+	}
+
+	@Test
+	void reindexingReplacesAJobsTerms() {
+		index.index(2L, "Write Rust services");
+
+		assertTrue(index.vectorize("Figma").isEmpty());
+		assertEquals(1, index.vectorize("Rust").size());
+	}
+
+	@Test
+	void descriptionPointsScaleWithTheConfiguredWeight() {
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			JobMatchScorer scorer = new JobMatchScorer(new SkillDictionary(), new SkillNormalizer(), index, pool);
+			JobMatchCatalog.MatchableJob job = new JobMatchCatalog.MatchableJob(1L, "", "", new BitSet(),
+					index.vectorize("payment services in Kotlin"));
+			JobMatchScorer.MatchableCandidate candidate = scorer.candidateOf(7L, List.of(), "", "", "Kotlin payment services");
+
+			assertEquals(0, scorer.descriptionPoints(job, candidate));
+			ReflectionTestUtils.setField(scorer, "descriptionWeight", 20);
+			assertEquals(20, scorer.descriptionPoints(job, candidate));
+			assertEquals(0, scorer.descriptionPoints(job, scorer.candidateOf(7L, List.of(), "", "", "")));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.JobTrendingScore;
+import com.example.demo.repository.JobTrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobTrendingTrackerTest {
+
+	private JobTrendingScoreRepository repository;
+	private JobTrendingTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(JobTrendingScoreRepository.class);
+		tracker = new JobTrendingTracker(repository, 3, 24, 1024);
+	}
+
+	@Test
+	void applicationsOutweighViews() {
+		for (int i = 0; i < 4; i++) {
+			tracker.recordView(1L);
+		}
+		tracker.recordApplication(2L);
+		tracker.recordView(3L);
+
+		assertEquals(List.of(2L, 1L, 3L), tracker.trending(10));
+		assertEquals(List.of(2L), tracker.trending(1));
+	}
+
+	@Test
+	void onlyTheTopJobsAreKept() {
+		for (long id = 1; id <= 5; id++) {
+			for (int i = 0; i < id; i++) {
+				tracker.recordView(id);
+			}
+		}
+
+		assertEquals(List.of(5L, 4L, 3L), tracker.trending(10));
+	}
+
+	@Test
+	void evictedJobsCanClimbBackIn() {
+		tracker.recordView(1L);
+		tracker.recordView(2L);
+		tracker.recordView(3L);
+		tracker.recordApplication(4L);
+		tracker.recordApplication(1L);
+
+		// Job 1 was evicted by job 4, but the sketch still remembers its earlier view
+		assertEquals(List.of(1L, 4L), tracker.trending(2));
+	}
+
+	@Test
+	void checkpointReplacesStoredScores() {
+		tracker.recordApplication(7L);
+
+		tracker.checkpoint();
+
+		verify(repository).deleteAllExcept("7");
+		verify(repository).upsertAll(eq("7"), anyString(), any());
+	}
+
+	@Test
+	void emptyCheckpointOnlyClearsTheTable() {
+		tracker.checkpoint();
+
+		verify(repository).deleteAllExcept("");
+		verify(repository, never()).upsertAll(any(), any(), any());
+	}
+
+	@Test
+	void restoreSeedsDecayedScores() {
+		when(repository.findAll()).thenReturn(List.of(
+				new JobTrendingScore(1L, 8.0, LocalDateTime.now().minusHours(48)),
+				new JobTrendingScore(2L, 3.0, LocalDateTime.now())));
+
+		tracker.restore();
+
+		// Two half-lives bring 8 down to 2, below the fresh 3
+		assertEquals(List.of(2L, 1L), tracker.trending(10));
+		tracker.recordApplication(1L);
+		assertTrue(tracker.trending(1).contains(1L));
+	}
+}
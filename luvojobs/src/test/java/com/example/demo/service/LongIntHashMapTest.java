@@ -0,0 +1,68 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntHashMapTest {
+
+	@Test
+	void putGetAndAddTo() {
+		LongIntHashMap map = new LongIntHashMap();
+
+		map.put(7L, 3);
+		map.put(7L, 4);
+
+		assertEquals(4, map.get(7L, -1));
+		assertEquals(-1, map.get(8L, -1));
+		assertEquals(6, map.addTo(7L, 2));
+		assertEquals(5, map.addTo(9L, 5));
+		assertTrue(map.containsKey(9L));
+		assertFalse(map.containsKey(10L));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	void keepsEveryEntryAcrossRehashes() {
+		LongIntHashMap map = new LongIntHashMap(2);
+		for (long key = 1; key <= 10_000; key++) {
+			map.addTo(key, (int) key);
+			map.addTo(key * 1_000_003L, 1);
+		}
+
+		assertEquals(20_000, map.size());
+		for (long key = 1; key <= 10_000; key++) {
+			assertEquals((int) key, map.get(key, 0));
+			assertEquals(1, map.get(key * 1_000_003L, 0));
+		}
+	}
+
+	@Test
+	void forEachVisitsEveryEntryOnce() {
+		LongIntHashMap map = new LongIntHashMap();
+		map.put(1L, 10);
+		map.put(42L, 20);
+		map.put(Long.MAX_VALUE, 30);
+
+		Map<Long, Integer> visited = new HashMap<>();
+		map.forEach((key, value) -> assertEquals(null, visited.put(key, value)));
+
+		assertEquals(Map.of(1L, 10, 42L, 20, Long.MAX_VALUE, 30), visited);
+	}
+
+	@Test
+	void rejectsNonPositiveKeys() {
+		LongIntHashMap map = new LongIntHashMap();
+
+		assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+		assertThrows(IllegalArgumentException.class, () -> map.addTo(-5L, 1));
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.get(0L, -1));
+	}
+}
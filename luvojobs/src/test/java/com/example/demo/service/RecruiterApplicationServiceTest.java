@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ApplicationStatusUpdateRequest;
+import com.example.demo.entity.ApplicationStatusChange;
+import com.example.demo.entity.Job;
+import com.example.demo.entity.JobApplication;
+import com.example.demo.entity.User;
+import com.example.demo.repository.ApplicationStatusChangeRepository;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.CounselorStatsRepository;
+import com.example.demo.repository.JobApplicationRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.RecruiterStatsRepository;
+import com.example.demo.repository.StudentRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecruiterApplicationServiceTest {
+
+	private final List<ApplicationStatusChange> statusLog = new ArrayList<>();
+	private JobApplicationRepository applicationRepository;
+	private RecruiterApplicationService service;
+	private JobApplication application;
+
+	@BeforeEach
+	void setUp() {
+		applicationRepository = mock(JobApplicationRepository.class);
+		when(applicationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		ApplicationStatusChangeRepository statusChangeRepository = mock(ApplicationStatusChangeRepository.class);
+		when(statusChangeRepository.save(any())).thenAnswer(invocation -> {
+			statusLog.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+
+		RecruiterStatsRepository recruiterStatsRepository = mock(RecruiterStatsRepository.class);
+		when(recruiterStatsRepository.applyDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong())).thenReturn(1);
+		DashboardCounterService counterService = new DashboardCounterService(recruiterStatsRepository,
+				mock(CounselorStatsRepository.class), mock(JobRepository.class), mock(StudentRepository.class),
+				new DashboardStatsCache(60_000, 60_000, 100, Runnable::run, new SimpleMeterRegistry()),
+				mock(PlatformTransactionManager.class));
+
+		service = new RecruiterApplicationService(applicationRepository, mock(JobRepository.class),
+				mock(UserRepository.class), mock(CandidateProfileRepository.class), counterService,
+				statusChangeRepository);
+
+		User recruiter = new User();
+		recruiter.setId(5L);
+		User candidate = new User();
+		candidate.setId(9L);
+		Job job = new Job();
+		job.setId(3L);
+		job.setRecruiter(recruiter);
+		application = new JobApplication(candidate, job);
+		application.setId(40L);
+		when(applicationRepository.findById(40L)).thenReturn(Optional.of(application));
+	}
+
+	@Test
+	void everyTransitionIsLoggedForTheRollup() {
+		service.updateApplicationStatus(5L, 40L, status("reviewing"));
+		service.updateApplicationStatus(5L, 40L, status("shortlisted"));
+		service.updateApplicationStatus(5L, 40L, status("hired"));
+
+		assertEquals(List.of("reviewing", "shortlisted", "hired"),
+				statusLog.stream().map(ApplicationStatusChange::getStatus).toList());
+		for (ApplicationStatusChange change : statusLog) {
+			assertEquals(40L, change.getApplicationId());
+			assertEquals(3L, change.getJobId());
+		}
+		assertEquals(statusLog.get(2).getChangedAt(), application.getStatusChangedAt());
+	}
+
+	@Test
+	void savingTheSameStatusLogsNothing() {
+		service.updateApplicationStatus(5L, 40L, status("pending"));
+
+		assertTrue(statusLog.isEmpty());
+		assertNull(application.getStatusChangedAt());
+	}
+
+	@Test
+	void otherRecruitersCannotChangeTheStatus() {
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> service.updateApplicationStatus(6L, 40L, status("rejected")));
+
+		assertEquals("You don't have permission to update this application", e.getMessage());
+		assertEquals("pending", application.getStatus());
+		assertTrue(statusLog.isEmpty());
+	}
+
+	private static ApplicationStatusUpdateRequest status(String status) {
+		ApplicationStatusUpdateRequest request = new ApplicationStatusUpdateRequest();
+		request.setStatus(status);
+		return request;
+	}
+}
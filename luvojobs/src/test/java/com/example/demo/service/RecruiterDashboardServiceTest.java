@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.RecruiterDashboardStatsResponse;
+import com.example.demo.entity.RecruiterStats;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CounselorStatsRepository;
+import com.example.demo.repository.InterviewRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.RecruiterStatsRepository;
+import com.example.demo.repository.StudentRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RecruiterDashboardServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+	private final JobRepository jobRepository = mock(JobRepository.class);
+	private final RecruiterStatsRepository statsRepository = mock(RecruiterStatsRepository.class);
+	private final RecruiterDashboardService service = new RecruiterDashboardService(userRepository, interviewRepository,
+			new DashboardCounterService(statsRepository, mock(CounselorStatsRepository.class), jobRepository,
+					mock(StudentRepository.class),
+					new DashboardStatsCache(60_000, 60_000, 100, Runnable::run, new SimpleMeterRegistry()),
+					mock(PlatformTransactionManager.class)));
+
+	@Test
+	void firstReadCountsEverythingInOneAggregateQuery() {
+		User recruiter = recruiter(5L);
+		// Column order of findRecruiterDashboardCounts; the database returns bigint counts
+		List<Object[]> aggregate = new ArrayList<>();
+		aggregate.add(new Object[]{BigInteger.valueOf(4), BigInteger.valueOf(3), BigInteger.valueOf(12),
+				BigInteger.valueOf(7), BigInteger.valueOf(2), BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(9),
+				BigInteger.valueOf(5)});
+		when(jobRepository.findRecruiterDashboardCounts(eq(5L), any())).thenReturn(aggregate);
+		when(statsRepository.seed(5L, 4, 3, 12, 7, 2, 1, 2, 9)).thenReturn(1);
+		when(interviewRepository.countByRecruiterAndStatusAndScheduledDateAfter(eq(recruiter), eq("scheduled"), any()))
+				.thenReturn(3L);
+
+		RecruiterDashboardStatsResponse stats = service.getDashboardStats(5L);
+
+		assertEquals(List.of(4L, 3L, 12L, 7L, 2L, 1L, 2L, 9L, 3L), List.of(stats.getTotalJobs(), stats.getActiveJobs(),
+				stats.getTotalApplications(), stats.getPendingApplications(), stats.getShortlisted(), stats.getHired(),
+				stats.getRejected(), stats.getTotalCandidates(), stats.getUpcomingInterviews()));
+		verify(jobRepository, times(1)).findRecruiterDashboardCounts(eq(5L), any());
+	}
+
+	@Test
+	void laterReadsUseTheCounterRowAndOnlyCountUpcomingInterviews() {
+		User recruiter = recruiter(5L);
+		RecruiterStats row = new RecruiterStats(5L);
+		row.setTotalJobs(8L);
+		row.setHired(4L);
+		when(statsRepository.findById(5L)).thenReturn(Optional.of(row));
+
+		RecruiterDashboardStatsResponse stats = service.getDashboardStats(5L);
+
+		assertEquals(8L, stats.getTotalJobs());
+		assertEquals(4L, stats.getHired());
+		verify(jobRepository, never()).findRecruiterDashboardCounts(anyLong(), any());
+		verify(interviewRepository).countByRecruiterAndStatusAndScheduledDateAfter(eq(recruiter), eq("scheduled"),
+				any(LocalDateTime.class));
+	}
+
+	@Test
+	void unknownRecruiterIsRejectedBeforeCounting() {
+		RuntimeException e = assertThrows(RuntimeException.class, () -> service.getDashboardStats(404L));
+
+		assertEquals("Recruiter not found", e.getMessage());
+		verifyNoInteractions(statsRepository, jobRepository, interviewRepository);
+	}
+
+	private User recruiter(Long id) {
+		User recruiter = new User();
+		recruiter.setId(id);
+		when(userRepository.findById(id)).thenReturn(Optional.of(recruiter));
+		return recruiter;
+	}
+}
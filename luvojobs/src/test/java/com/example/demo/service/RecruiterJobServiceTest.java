@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobRequest;
+import com.example.demo.dto.JobResponse;
+import com.example.demo.entity.Job;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CandidateProfileRepository;
+import com.example.demo.repository.CounselorStatsRepository;
+import com.example.demo.repository.JobApplicationRepository;
+import com.example.demo.repository.JobMatchScoreRepository;
+import com.example.demo.repository.JobRepository;
+import com.example.demo.repository.RecruiterStatsRepository;
+import com.example.demo.repository.StudentRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Near-duplicate detection on the recruiter write paths. Jobs are posted through the service itself,
+ * so the similarity index holds exactly what earlier posts committed.
+ */
+class RecruiterJobServiceTest {
+
+	private static final String BACKEND = "We are looking for a backend engineer to build payment APIs in Java and Spring Boot, "
+			+ "own the PostgreSQL schema, run services on Kubernetes and mentor junior developers on code review";
+	private static final String DESIGNER = "Own the design system of our mobile apps, run user interviews, "
+			+ "prototype new onboarding flows in Figma and work closely with product managers";
+
+	private final Map<Long, Job> saved = new HashMap<>();
+	private ForkJoinPool pool;
+	private RecruiterJobService service;
+
+	@BeforeEach
+	void setUp() {
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+			Job job = invocation.getArgument(0);
+			if (job.getId() == null) {
+				job.setId(saved.size() + 1L);
+			}
+			saved.put(job.getId(), job);
+			return job;
+		});
+		when(jobRepository.findById(anyLong())).thenAnswer(invocation ->
+				Optional.ofNullable(saved.get(invocation.<Long>getArgument(0))));
+
+		UserRepository userRepository = mock(UserRepository.class);
+		for (long id = 10; id <= 11; id++) {
+			User recruiter = new User();
+			recruiter.setId(id);
+			when(userRepository.findById(id)).thenReturn(Optional.of(recruiter));
+		}
+
+		JobApplicationRepository applicationRepository = mock(JobApplicationRepository.class);
+		CandidateProfileRepository profileRepository = mock(CandidateProfileRepository.class);
+		SkillDictionary skillDictionary = new SkillDictionary();
+		SkillNormalizer skillNormalizer = new SkillNormalizer();
+		JobTextIndex textIndex = new JobTextIndex();
+		pool = new ForkJoinPool(1);
+		JobMatchCatalog catalog = new JobMatchCatalog(jobRepository, skillDictionary, skillNormalizer, textIndex);
+		JobMatchScorer scorer = new JobMatchScorer(skillDictionary, skillNormalizer, textIndex, pool);
+		CandidateMatchIndex candidateIndex = new CandidateMatchIndex(profileRepository, scorer);
+		JobMatchScoreService scoreService = new JobMatchScoreService(mock(JobMatchScoreRepository.class),
+				profileRepository, jobRepository, catalog, scorer, candidateIndex);
+
+		RecruiterStatsRepository recruiterStatsRepository = mock(RecruiterStatsRepository.class);
+		when(recruiterStatsRepository.applyDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong())).thenReturn(1);
+		DashboardCounterService counterService = new DashboardCounterService(recruiterStatsRepository,
+				mock(CounselorStatsRepository.class), jobRepository, mock(StudentRepository.class),
+				new DashboardStatsCache(60_000, 60_000, 100, Runnable::run, new SimpleMeterRegistry()),
+				mock(PlatformTransactionManager.class));
+
+		service = new RecruiterJobService(jobRepository, userRepository, applicationRepository,
+				new JobSearchIndex(jobRepository), new JobFacetIndex(jobRepository),
+				new JobSuggestIndex(jobRepository, applicationRepository), new JobSearchCache(100, new SimpleMeterRegistry()),
+				catalog, scoreService, new JobMatchScoreWorker(scoreService, task -> { }), candidateIndex, scorer,
+				profileRepository, skillNormalizer, new JobSimilarityIndex(jobRepository), counterService);
+		ReflectionTestUtils.setField(service, "duplicateThreshold", 0.85);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void repostingAnActiveJobIsFlaggedButSaved() {
+		JobResponse original = service.createJob(10L, request("Backend Engineer", BACKEND, "active"));
+
+		JobResponse repost = service.createJob(10L, request("Backend Engineer", BACKEND + " in Berlin", "active"));
+
+		assertEquals(List.of(original.getId()), repost.getDuplicateOfJobIds());
+		assertEquals("This job looks like a near-duplicate of your active job(s) [" + original.getId() + "]",
+				repost.getDuplicateWarning());
+		assertEquals(2, saved.size());
+	}
+
+	@Test
+	void unrelatedDraftAndOtherRecruitersJobsAreNotFlagged() {
+		service.createJob(10L, request("Backend Engineer", BACKEND, "active"));
+
+		JobResponse designer = service.createJob(10L, request("Product Designer", DESIGNER, "active"));
+		JobResponse draft = service.createJob(10L, request("Backend Engineer", BACKEND, "draft"));
+		JobResponse competitor = service.createJob(11L, request("Backend Engineer", BACKEND, "active"));
+
+		assertNull(designer.getDuplicateOfJobIds());
+		assertNull(draft.getDuplicateOfJobIds());
+		assertNull(competitor.getDuplicateOfJobIds());
+	}
+
+	@Test
+	void updatingAJobDoesNotFlagItAgainstItself() {
+		JobResponse posted = service.createJob(10L, request("Backend Engineer", BACKEND, "active"));
+
+		JobResponse updated = service.updateJob(10L, posted.getId(), request("Backend Engineer", BACKEND + " remotely", "active"));
+
+		assertNull(updated.getDuplicateOfJobIds());
+	}
+
+	@Test
+	void rejectModeRefusesTheDuplicateBeforeSaving() {
+		ReflectionTestUtils.setField(service, "rejectDuplicates", true);
+		JobResponse original = service.createJob(10L, request("Backend Engineer", BACKEND, "active"));
+
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> service.createJob(10L, request("Backend Engineer", BACKEND, "active")));
+
+		assertEquals("This job is a near-duplicate of your active job(s) [" + original.getId() + "]", e.getMessage());
+		assertEquals(1, saved.size());
+	}
+
+	private static JobRequest request(String title, String description, String status) {
+		JobRequest request = new JobRequest();
+		request.setTitle(title);
+		request.setCompany("Acme");
+		request.setLocation("Remote");
+		request.setType("full-time");
+		request.setExperienceLevel("junior");
+		request.setDescription(description);
+		request.setRequiredSkills(List.of("Java", "Spring"));
+		request.setCareerTrack("software");
+		request.setStatus(status);
+		return request;
+	}
+}
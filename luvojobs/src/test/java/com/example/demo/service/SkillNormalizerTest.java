@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillNormalizerTest {
+
+	private final SkillNormalizer normalizer = new SkillNormalizer();
+
+	@Test
+	void stripsTrailingVersions() {
+		assertEquals("java", normalizer.normalize("Java 17"));
+		assertEquals("python", normalizer.normalize("Python 3.11"));
+		assertEquals("python", normalizer.normalize("python3"));
+		assertEquals("c++", normalizer.normalize("C++17"));
+		assertEquals("dotnet", normalizer.normalize(".NET 6"));
+	}
+
+	@Test
+	void productNamesKeepTheirDigits() {
+		assertEquals("s3", normalizer.normalize("S3"));
+		assertEquals("aws s3", normalizer.normalize("AWS S3"));
+		assertEquals("amazon ec2", normalizer.normalize("Amazon EC2"));
+		assertEquals("ibm db2", normalizer.normalize("IBM DB2"));
+	}
+
+	@Test
+	void foldsPunctuationAndAppliesAliases() {
+		assertEquals("node", normalizer.normalize("Node.js"));
+		assertEquals("react", normalizer.normalize("React-JS"));
+		assertEquals("kubernetes", normalizer.normalize("k8s"));
+		assertEquals("dotnet", normalizer.normalize(".NET Core"));
+		assertEquals("c#", normalizer.normalize("C#"));
+		assertEquals("github actions", normalizer.normalize("GitHub  Actions"));
+	}
+
+	@Test
+	void normalizeAllDropsBlanksAndDuplicatesInInputOrder() {
+		List<String> canonical = normalizer.normalizeAll(Arrays.asList("ReactJS", "  ", null, "Java 11", "react", "java"));
+
+		assertEquals(List.of("react", "java"), canonical);
+		assertEquals(List.of(), normalizer.normalizeAll(null));
+	}
+}